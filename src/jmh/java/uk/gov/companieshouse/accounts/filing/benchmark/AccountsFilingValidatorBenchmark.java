@@ -0,0 +1,77 @@
+package uk.gov.companieshouse.accounts.filing.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.model.types.AccountsType;
+import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingValidator;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+
+/**
+ * Measures the validation run by {@code /validation-status} and the accounts type lookup it
+ * shares with the filing generator mapper.
+ *
+ * <p>The {@code invalid} entry fails every field check, so it shows the cost of building the
+ * error list. {@code fromStemCode} is measured for the first and last stem codes and for an
+ * unknown code, which scans every constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AccountsFilingValidatorBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String entry;
+
+    @Param({"01", "68", "99"})
+    public String stemCode;
+
+    private AccountsFilingValidator accountsFilingValidator;
+
+    private FilingDetailsProjection filingDetails;
+
+    @Setup
+    public void setUp() {
+        accountsFilingValidator = new AccountsFilingValidator();
+        final AccountsFilingEntry accountsFilingEntry = new AccountsFilingEntry("65f1c0ffee0000000000beef");
+        if ("valid".equals(entry)) {
+            accountsFilingEntry.setPackageType(PackageTypeApi.UKSEF);
+            accountsFilingEntry.setAccountsType("01");
+            accountsFilingEntry.setMadeUpDate("2023-03-31");
+            accountsFilingEntry.setFileId("3b1f1a9e-6c0e-4c55-9a5c-3f5a2d7c1e42");
+        } else {
+            accountsFilingEntry.setAccountsType("99");
+            accountsFilingEntry.setMadeUpDate("31/03/2023");
+            accountsFilingEntry.setFileId("not-a-file-id");
+        }
+        filingDetails = Projections.of(FilingDetailsProjection.class, accountsFilingEntry);
+    }
+
+    @Benchmark
+    public ValidationStatusResponse validateAccountsFilingEntry() {
+        return accountsFilingValidator.validateAccountsFilingEntry(filingDetails);
+    }
+
+    @Benchmark
+    public AccountsType fromStemCode() {
+        return AccountsType.fromStemCode(stemCode);
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.companieshouse.accounts.filing.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.companieshouse.accounts.filing.mapper.FilingGeneratorMapper;
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.CostsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.service.costs.CostsServiceImpl;
+import uk.gov.companieshouse.accounts.filing.template.PackageTypeTemplates;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
+import uk.gov.companieshouse.api.model.payment.Cost;
+
+/**
+ * Measures building the {@code /costs} response and the private {@code /filings} payload for each
+ * package type that takes a different branch. UKSEF has no fee, so {@code calculateCosts} returns
+ * an empty list for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FilingPayloadBenchmark {
+
+    @Param({"UKSEF", "CIC", "OVERSEAS"})
+    public PackageTypeApi packageType;
+
+    private FilingGeneratorMapper filingGeneratorMapper;
+
+    private CostsServiceImpl costsService;
+
+    private FilingDetailsProjection filingDetails;
+
+    private CostsProjection costsProjection;
+
+    @Setup
+    public void setUp() {
+        final PackageTypeTemplates packageTypeTemplates = new PackageTypeTemplates("15.00", "33.00", "s3://",
+                "accounts-bucket");
+        filingGeneratorMapper = new FilingGeneratorMapper(packageTypeTemplates);
+        costsService = new CostsServiceImpl(packageTypeTemplates);
+
+        // Projected queries return proxies, so the benchmarks read the entry through the same kind of proxy
+        final AccountsFilingEntry accountsFilingEntry = new AccountsFilingEntry("65f1c0ffee0000000000beef",
+                "3b1f1a9e-6c0e-4c55-9a5c-3f5a2d7c1e42", "01", packageType, "000000-123456-000000",
+                "00006400", "Test Company Limited", "2023-03-31");
+        filingDetails = Projections.of(FilingDetailsProjection.class, accountsFilingEntry);
+        costsProjection = Projections.of(CostsProjection.class, accountsFilingEntry);
+    }
+
+    @Benchmark
+    public FilingApi mapToFilingApi() {
+        return filingGeneratorMapper.mapToFilingApi(filingDetails);
+    }
+
+    @Benchmark
+    public List<Cost> calculateCosts() {
+        return costsService.calculateCosts(costsProjection);
+    }
+}
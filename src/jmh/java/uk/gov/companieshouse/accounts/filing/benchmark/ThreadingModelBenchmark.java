@@ -0,0 +1,131 @@
+package uk.gov.companieshouse.accounts.filing.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Compares request handling on virtual threads with Tomcat's default platform thread pool when
+ * every request blocks on a downstream HTTP call, as the transaction and account validator calls do.
+ *
+ * <p>Each operation is a batch of {@code concurrentRequests} requests, so the score is batches per
+ * second. Run with {@code make benchmark}, which adds {@code -prof gc} for allocation figures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx512m", "-Dhttp.maxConnections=2000", "-Djdk.tracePinnedThreads=short"})
+public class ThreadingModelBenchmark {
+
+    /** Tomcat's default maximum number of request processing threads. */
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    private static final byte[] RESPONSE_BODY = "{\"id\":\"000000-123456-000000\",\"status\":\"open\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"virtual", "platform"})
+    public String threadingModel;
+
+    @Param({"1000"})
+    public int concurrentRequests;
+
+    @Param({"20"})
+    public int downstreamLatencyMillis;
+
+    private HttpServer downstream;
+    private ExecutorService downstreamThreads;
+    private ExecutorService requestThreads;
+    private URL downstreamUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        downstream = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        downstream.createContext("/", exchange -> {
+            sleep(downstreamLatencyMillis);
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RESPONSE_BODY);
+            }
+        });
+        downstreamThreads = Executors.newVirtualThreadPerTaskExecutor();
+        downstream.setExecutor(downstreamThreads);
+        downstream.start();
+        downstreamUrl = URI.create(String.format("http://%s:%d/private/transactions/000000-123456-000000",
+                downstream.getAddress().getHostString(), downstream.getAddress().getPort())).toURL();
+
+        requestThreads = "virtual".equals(threadingModel)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestThreads.close();
+        downstream.stop(0);
+        downstreamThreads.close();
+    }
+
+    @Benchmark
+    public int handleConcurrentRequests() throws InterruptedException, ExecutionException {
+        final List<Future<Integer>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(requestThreads.submit(this::handleRequest));
+        }
+
+        int bytesRead = 0;
+        for (final Future<Integer> response : responses) {
+            bytesRead += response.get();
+        }
+        return bytesRead;
+    }
+
+    /**
+     * A single request: one blocking GET over {@link HttpURLConnection}, which is the transport the
+     * API SDK uses.
+     */
+    private int handleRequest() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) downstreamUrl.openConnection();
+        try (InputStream body = connection.getInputStream()) {
+            return body.readAllBytes().length;
+        }
+    }
+
+    private static void sleep(final int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.companieshouse.accounts.filing.interceptor.validation;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
+import uk.gov.companieshouse.logging.LoggerFactory;
+
+/**
+ * Measures the path id check that runs before every
+ * {@code /transactions/{transactionId}/accounts-filing/{accountsFilingId}/file/{fileId}/status}
+ * request. Only valid ids are used, since those are the ones every accepted request pays for; a
+ * rejected id also writes a log line, which would dominate the score.
+ *
+ * <p>This lives in the interceptor's package because its constructor is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdInterceptorBenchmark {
+
+    private PathIdInterceptor pathIdInterceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        pathIdInterceptor = new PathIdInterceptor(LoggerFactory.getLogger("accounts-filing-api-benchmark"));
+
+        request = new MockHttpServletRequest("GET",
+                "/transactions/000000-123456-000000/accounts-filing/65f1c0ffee0000000000beef"
+                        + "/file/3b1f1a9e-6c0e-4c55-9a5c-3f5a2d7c1e42/status");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/transactions/{transactionId}/accounts-filing/{accountsFilingId}/file/{fileId}/status");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of(
+                Constants.TRANSACTION_ID_KEY, "000000-123456-000000",
+                Constants.ACCOUNT_FILING_ID_KEY, "65f1c0ffee0000000000beef",
+                Constants.FILE_ID_KEY, "3b1f1a9e-6c0e-4c55-9a5c-3f5a2d7c1e42"));
+        request.addHeader(Constants.ERIC_REQUEST_ID_KEY, "benchmark-request");
+        response = new MockHttpServletResponse();
+    }
+
+    /**
+     * Comparable with {@code allInterceptors} from before the three id interceptors were merged.
+     */
+    @Benchmark
+    public boolean pathIdInterceptor() {
+        return pathIdInterceptor.preHandle(request, response, null);
+    }
+}
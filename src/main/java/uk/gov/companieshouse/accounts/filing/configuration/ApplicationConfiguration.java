@@ -1,11 +1,15 @@
 package uk.gov.companieshouse.accounts.filing.configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiClientFactory;
 import uk.gov.companieshouse.api.InternalApiClient;
-import uk.gov.companieshouse.api.http.ApiKeyHttpClient;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 
@@ -25,18 +29,37 @@ public class ApplicationConfiguration {
         return LoggerFactory.getLogger(applicationNameSpace);
     }
 
+    /**
+     * Creates the internal API client shared by calls to internal APIs that are not made for a
+     * particular request, such as the account validator polls.
+     *
+     * @return the internal API client
+     */
     @Bean
-    public InternalApiClient internalApiClient(
-            @Value("${api.base.path}") String apiBasePath,
-            @Value("${internal.api.base.path}") String internalApiBasePath,
-            @Value("${internal.api.key}") String internalApiKey
-    ) {
-        ApiKeyHttpClient httpClient = new ApiKeyHttpClient(internalApiKey);
-        InternalApiClient internalApiClient = new InternalApiClient(httpClient);
-
-        internalApiClient.setBasePath(internalApiBasePath);
-        internalApiClient.setInternalBasePath(internalApiBasePath);
-
-        return internalApiClient;
+    public InternalApiClient internalApiClient(final InternalApiClientFactory internalApiClientFactory) {
+        return internalApiClientFactory.create(null);
+    }
+
+    /**
+     * Executor for blocking calls a request handler runs alongside its own work. Each task
+     * gets a virtual thread, so a slow downstream call does not hold a platform thread.
+     *
+     * @return the executor
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService requestExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Scheduler for the delays between account validator polls made for long-poll requests. The
+     * polls themselves run on the request executor, so one thread is enough.
+     *
+     * @return the scheduler
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService validationStatusScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("validation-status-poll").daemon().factory());
     }
 }
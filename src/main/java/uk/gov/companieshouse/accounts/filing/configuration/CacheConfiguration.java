@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.accounts.filing.configuration;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the caches configured through the spring.cache properties. Cache statistics
+ * (hits, misses and evictions) are published through the actuator metrics endpoint.
+ * <p>
+ * Cached accounts filing entries are mutable, so the caches used by the caching annotations copy
+ * entries on the way in and on the way out. Every caller gets its own instance, and changing it
+ * never changes what other requests read from the cache.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration implements CachingConfigurer {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public CacheConfiguration(final ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return this::resolveCaches;
+    }
+
+    private Collection<? extends Cache> resolveCaches(final CacheOperationInvocationContext<?> context) {
+        final CacheManager manager = cacheManager.getObject();
+        return context.getOperation().getCacheNames().stream()
+                .map(name -> {
+                    final Cache cache = manager.getCache(name);
+                    if (cache == null) {
+                        throw new IllegalArgumentException(String.format("Cannot find cache named '%s' for %s",
+                                name, context.getOperation()));
+                    }
+                    return new CopyingCache(cache);
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.accounts.filing.configuration;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+
+/**
+ * Stores a copy of each accounts filing entry put in the cache, and hands out a copy of each
+ * entry read from it. Other values are passed through unchanged.
+ */
+class CopyingCache implements Cache {
+
+    private final Cache cache;
+
+    CopyingCache(final Cache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String getName() {
+        return cache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final ValueWrapper wrapper = cache.get(key);
+        return wrapper == null ? null : new SimpleValueWrapper(copy(wrapper.get()));
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        return type.cast(copy(cache.get(key, type)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        return (T) copy(cache.get(key, () -> (T) copy(valueLoader.call())));
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        cache.put(key, copy(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        final ValueWrapper existing = cache.putIfAbsent(key, copy(value));
+        return existing == null ? null : new SimpleValueWrapper(copy(existing.get()));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        cache.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return cache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return cache.invalidate();
+    }
+
+    private static Object copy(final Object value) {
+        return value instanceof AccountsFilingEntry entry ? entry.copy() : value;
+    }
+}
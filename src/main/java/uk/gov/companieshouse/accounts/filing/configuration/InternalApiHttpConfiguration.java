@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.accounts.filing.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiMetrics;
+
+/**
+ * The HTTP transport shared by every internal API client. Calls to the transactions API and the
+ * account validator API take their connections from one pool, so a connection and its TLS session
+ * are reused across requests instead of being opened for each call.
+ */
+@Configuration
+public class InternalApiHttpConfiguration {
+
+    /**
+     * Creates the connection pool. Its size and use are exported through
+     * {@link InternalApiMetrics#monitorPool}. It is closed with the HTTP client that owns it.
+     *
+     * @return the connection pool
+     */
+    @Bean(destroyMethod = "")
+    public PoolingHttpClientConnectionManager internalApiConnectionManager(
+            @Value("${internal.api.http.max-connections}") final int maxConnections,
+            @Value("${internal.api.http.max-connections-per-route}") final int maxConnectionsPerRoute,
+            final InternalApiMetrics internalApiMetrics) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        internalApiMetrics.monitorPool(connectionManager);
+        return connectionManager;
+    }
+
+    /**
+     * Creates the HTTP client over the pool. An idle connection is kept for the keep-alive time,
+     * or for less when the server asks for less, and a background thread closes connections that
+     * have been idle for longer. Closing the client closes the pool.
+     *
+     * @return the HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient internalApiHttpClient(final PoolingHttpClientConnectionManager internalApiConnectionManager,
+            @Value("${internal.api.http.keep-alive}") final Duration keepAlive) {
+        final long keepAliveMillis = keepAlive.toMillis();
+        return ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setConnectionManager(internalApiConnectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    final long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return serverKeepAlive < 0 ? keepAliveMillis : Math.min(serverKeepAlive, keepAliveMillis);
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * @return the transport the internal API clients send their requests through
+     */
+    @Bean
+    public HttpTransport internalApiHttpTransport(final CloseableHttpClient internalApiHttpClient) {
+        return new ApacheHttpTransport(internalApiHttpClient);
+    }
+}
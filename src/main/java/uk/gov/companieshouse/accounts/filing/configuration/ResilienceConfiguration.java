@@ -0,0 +1,59 @@
+package uk.gov.companieshouse.accounts.filing.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.StateTransition;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.companieshouse.logging.Logger;
+
+/**
+ * The circuit breakers, time limiters and bulkheads for internal APIs are configured under
+ * {@code resilience4j.*} in application.properties. Their state, call and rejection metrics are
+ * published by the resilience4j starter; this adds a log line and a counter for each state change.
+ */
+@Configuration
+public class ResilienceConfiguration {
+
+    public static final String CIRCUIT_BREAKER_TRANSITIONS = "internal.api.circuitbreaker.transitions";
+
+    @Bean
+    public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionRecorder(final MeterRegistry meterRegistry,
+            final Logger logger) {
+        return new RegistryEventConsumer<>() {
+
+            @Override
+            public void onEntryAddedEvent(final EntryAddedEvent<CircuitBreaker> entryAddedEvent) {
+                recordTransitions(entryAddedEvent.getAddedEntry(), meterRegistry, logger);
+            }
+
+            @Override
+            public void onEntryRemovedEvent(final EntryRemovedEvent<CircuitBreaker> entryRemoveEvent) {
+                // Nothing to release, the event publisher goes with the circuit breaker
+            }
+
+            @Override
+            public void onEntryReplacedEvent(final EntryReplacedEvent<CircuitBreaker> entryReplacedEvent) {
+                recordTransitions(entryReplacedEvent.getNewEntry(), meterRegistry, logger);
+            }
+        };
+    }
+
+    private static void recordTransitions(final CircuitBreaker circuitBreaker, final MeterRegistry meterRegistry,
+            final Logger logger) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            final StateTransition transition = event.getStateTransition();
+            logger.info(String.format("Circuit breaker for %s api changed from %s to %s",
+                    circuitBreaker.getName(), transition.getFromState(), transition.getToState()));
+            meterRegistry.counter(CIRCUIT_BREAKER_TRANSITIONS,
+                    "name", circuitBreaker.getName(),
+                    "from", transition.getFromState().name(),
+                    "to", transition.getToState().name()).increment();
+        });
+    }
+}
@@ -5,9 +5,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import uk.gov.companieshouse.accounts.filing.interceptor.validation.AccountsFilingIdInterceptor;
-import uk.gov.companieshouse.accounts.filing.interceptor.validation.FileIdInterceptor;
-import uk.gov.companieshouse.accounts.filing.interceptor.validation.TransactionIdInterceptor;
+import uk.gov.companieshouse.accounts.filing.interceptor.validation.PathIdInterceptor;
 import uk.gov.companieshouse.accounts.filing.security.LoggingInterceptor;
 import uk.gov.companieshouse.api.interceptor.CRUDAuthenticationInterceptor;
 import uk.gov.companieshouse.api.interceptor.InternalUserInterceptor;
@@ -18,9 +16,6 @@ import static uk.gov.companieshouse.api.util.security.Permission.Key.USER_PROFIL
 @Component
 public class WebMvcConfig implements WebMvcConfigurer {
 
-    private static final String TRANSACTION_URI = "**/transactions/**";
-    private static final String ACCOUNTS_FILING_URI = "**/accounts-filing/**";
-    private static final String FILE_URI = "**/file/**";
     private static final String PRIVATE_URI = "/private/**";
     private static final String COSTS_URI = "/transactions/**/costs";
     private static final String HEALTHCHECK_URI = "/accounts-filing/healthcheck";
@@ -28,19 +23,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
     private static final String[] INTERNAL_AUTH_INCLUDE = { COSTS_URI, PRIVATE_URI };
 
     private final LoggingInterceptor loggingInterceptor;
-    private final AccountsFilingIdInterceptor accountsFilingIdInterceptor;
-    private final TransactionIdInterceptor transactionIdInterceptor;
-    private final FileIdInterceptor fileIdInterceptor;
+    private final PathIdInterceptor pathIdInterceptor;
 
     @Autowired
     public WebMvcConfig(final LoggingInterceptor loggingInterceptor,
-                        final AccountsFilingIdInterceptor accountsFilingIdInterceptor,
-                        final TransactionIdInterceptor transactionIdInterceptor,
-                        final FileIdInterceptor fileIdInterceptor) {
+                        final PathIdInterceptor pathIdInterceptor) {
         this.loggingInterceptor = loggingInterceptor;
-        this.accountsFilingIdInterceptor = accountsFilingIdInterceptor;
-        this.transactionIdInterceptor = transactionIdInterceptor;
-        this.fileIdInterceptor = fileIdInterceptor;
+        this.pathIdInterceptor = pathIdInterceptor;
     }
 
     @Override
@@ -53,24 +42,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .excludePathPatterns(OAUTH2_EXCLUDE);
         registry.addInterceptor(getInternalApiKeyInterceptor())
                 .addPathPatterns(INTERNAL_AUTH_INCLUDE);
-        addAccountsFilingIdInterceptor(registry);
-        addTransactionIdInterceptor(registry);
-        addFileIdInterceptor(registry);
-    }
-
-    private void addAccountsFilingIdInterceptor(final InterceptorRegistry registry){
-        registry.addInterceptor(accountsFilingIdInterceptor)
-                .addPathPatterns(ACCOUNTS_FILING_URI);
-    }
-
-    private void addTransactionIdInterceptor(final InterceptorRegistry registry){
-        registry.addInterceptor(transactionIdInterceptor)
-                .addPathPatterns(TRANSACTION_URI);
-    }
-
-    private void addFileIdInterceptor(final InterceptorRegistry registry){
-        registry.addInterceptor(fileIdInterceptor)
-                .addPathPatterns(FILE_URI);
+        registry.addInterceptor(pathIdInterceptor)
+                .excludePathPatterns(HEALTHCHECK_URI);
     }
 
     /**
@@ -15,8 +15,6 @@ import uk.gov.companieshouse.accounts.filing.model.CompanyRequest;
 import uk.gov.companieshouse.accounts.filing.service.company.CompanyService;
 import uk.gov.companieshouse.logging.Logger;
 
-import java.util.regex.Pattern;
-
 @Controller
 @RequestMapping("/transactions/{transactionId}/accounts-filing")
 public class CompanyController {
@@ -35,9 +33,6 @@ public class CompanyController {
                                             @Valid @RequestBody final CompanyRequest companyRequest){
         logger.info(String.format("Saving company_number- %s, transaction_id- %s and company name - %s",
                 companyNumber, transactionId, companyRequest.companyName()));
-        if (!checkCompanyNumber(companyNumber) || !checkTransactionId(transactionId)) {
-            return ResponseEntity.badRequest().build();
-        }
         try {
             return ResponseEntity.ok(companyService.saveCompanyNumberAndTransactionId(companyNumber, transactionId, companyRequest.companyName()));
         } catch (Exception e) {
@@ -45,38 +40,6 @@ public class CompanyController {
         }
     }
 
-    /**
-     * The method will check the passed company number is in correct
-     * charactor set or not. If it is using the correct charactor set, the method will return true
-     * else return false.
-     *
-     * @return boolean
-     */
-    private boolean checkCompanyNumber(String companyNumber) {
-        if (companyNumber == null || companyNumber.isBlank()) {
-            return false;
-        } else {
-            Pattern pattern = Pattern.compile("^[A-Z0-9]{8}$");
-            return pattern.matcher(companyNumber).matches();
-        }
-    }
-
-    /**
-     * The method will check the passed transaction id is in correct
-     * format or not. If it is in correct format, the method will return true
-     * else return false.
-     *
-     * @return boolean
-     */
-    private boolean checkTransactionId(String transactionId) {
-        if (transactionId == null || transactionId.isBlank()) {
-            return false;
-        } else {
-            Pattern pattern = Pattern.compile("^([0-9]{6}-[0-9]{6}-[0-9]{6})$");
-            return pattern.matcher(transactionId).matches();
-        }
-    }
-
     /**
      * Handles all un-caught exceptions
      *
@@ -0,0 +1,111 @@
+package uk.gov.companieshouse.accounts.filing.controller;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import uk.gov.companieshouse.accounts.filing.model.projection.VersionProjection;
+import uk.gov.companieshouse.accounts.filing.observation.PackageTypeRequestObservationConvention;
+import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
+
+/**
+ * Strong entity tags for responses built from a single accounts filing entry. The tag is the
+ * version of the entry, which changes on every update, so a client holding the tag of the current
+ * version can be answered with a 304 after reading only the version. Responses that are also built
+ * from configuration, such as the fees in {@code /costs}, add a tag of that configuration, so the
+ * tag also changes when the service is deployed with different configuration.
+ */
+final class EntityTags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final String ANY = "*";
+
+    private EntityTags() {
+    }
+
+    /**
+     * @param version - version of the entry, or null if it has never been updated
+     * @return the quoted entity tag of the version
+     */
+    static String of(final Long version) {
+        return of(version, null);
+    }
+
+    /**
+     * @param version          - version of the entry, or null if it has never been updated
+     * @param configurationTag - tag of the configuration the response is built from, or null if
+     *                           it only depends on the entry
+     * @return the quoted entity tag of the version and configuration
+     */
+    static String of(final Long version, final String configurationTag) {
+        final long entryVersion = version == null ? 0L : version;
+        return configurationTag == null
+                ? "\"" + entryVersion + "\""
+                : "\"" + entryVersion + "-" + configurationTag + "\"";
+    }
+
+    /**
+     * Compares the tags of an If-None-Match header with the tag of the current version. Weak tags
+     * in the header match, as If-None-Match uses the weak comparison.
+     *
+     * @param ifNoneMatch - value of the If-None-Match header, may be null
+     * @param entityTag   - tag of the current version
+     * @return true if any tag in the header matches
+     */
+    static boolean matches(final String ifNoneMatch, final String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if (ANY.equals(tag) || entityTag.equals(tag.startsWith(WEAK_PREFIX) ? tag.substring(2) : tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads only the version of the entry and builds a 304 if the client already holds it.
+     *
+     * @param accountsFilingService - service to look up the version with
+     * @param transactionId         - id of the transaction the entry must belong to
+     * @param accountsFilingId      - id of the accounts filing entry
+     * @param ifNoneMatch           - value of the If-None-Match header, may be null
+     * @return a 304 response, or empty if the full response has to be built
+     */
+    static <T> Optional<ResponseEntity<T>> notModified(final AccountsFilingService accountsFilingService,
+            final String transactionId, final String accountsFilingId, final String ifNoneMatch) {
+        return notModified(accountsFilingService, transactionId, accountsFilingId, ifNoneMatch, null);
+    }
+
+    /**
+     * Reads only the version of the entry and builds a 304 if the client already holds the tag of
+     * that version and the given configuration.
+     *
+     * @param accountsFilingService - service to look up the version with
+     * @param transactionId         - id of the transaction the entry must belong to
+     * @param accountsFilingId      - id of the accounts filing entry
+     * @param ifNoneMatch           - value of the If-None-Match header, may be null
+     * @param configurationTag      - tag of the configuration the response is built from, or null
+     * @return a 304 response, or empty if the full response has to be built
+     */
+    static <T> Optional<ResponseEntity<T>> notModified(final AccountsFilingService accountsFilingService,
+            final String transactionId, final String accountsFilingId, final String ifNoneMatch,
+            final String configurationTag) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        return accountsFilingService
+                .findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId, VersionProjection.class)
+                .filter(entry -> matches(ifNoneMatch, of(entry.getVersion(), configurationTag)))
+                .map(entry -> {
+                    PackageTypeRequestObservationConvention.recordPackageType(entry.getPackageType());
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(of(entry.getVersion(), configurationTag))
+                            .<T>build();
+                });
+    }
+}
@@ -1,21 +1,26 @@
 package uk.gov.companieshouse.accounts.filing.controller;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
 import uk.gov.companieshouse.accounts.filing.mapper.FilingGeneratorMapper;
-import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.observation.PackageTypeRequestObservationConvention;
 import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.logging.Logger;
 
 @Controller
-@RequestMapping("/private/transactions/{transactionId}/accounts-filing/{accountsFilingId}")
+@RequestMapping("/private/transactions/{transactionId}/accounts-filing")
 public class PrivateTransactionController {
 
     private final AccountsFilingService accountsFilingService;
@@ -33,22 +38,56 @@ public class PrivateTransactionController {
         this.logger = logger;
     }
 
-    @GetMapping("/filings")
+    @GetMapping("/{accountsFilingId}/filings")
     public ResponseEntity<FilingApi[]> getFilingApiEntry(
             @PathVariable("transactionId") final String transactionId,
-            @PathVariable("accountsFilingId") final String accountsFilingId) {
-
-        try {
+            @PathVariable("accountsFilingId") final String accountsFilingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
 
-            AccountsFilingEntry accountsFilingEntry = accountsFilingService
-                    .getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId);
-            FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(accountsFilingEntry);
-            return ResponseEntity.ok(new FilingApi[]{ filingApi });
+        String configurationTag = filingGeneratorMapper.configurationTag();
+        Optional<ResponseEntity<FilingApi[]>> notModified = EntityTags.notModified(accountsFilingService,
+                transactionId, accountsFilingId, ifNoneMatch, configurationTag);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
 
-        } catch (EntryNotFoundException ex) {
+        Optional<FilingDetailsProjection> accountsFilingEntry = accountsFilingService
+                .findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                        FilingDetailsProjection.class);
+        if (accountsFilingEntry.isEmpty()) {
             logger.error(String.format("%s: did not match a known accountFilingId", accountsFilingId));
             return ResponseEntity.notFound().build();
         }
 
+        PackageTypeRequestObservationConvention.recordPackageType(accountsFilingEntry.get().getPackageType());
+        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(accountsFilingEntry.get());
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(accountsFilingEntry.get().getVersion(), configurationTag))
+                .body(new FilingApi[]{ filingApi });
+    }
+
+    /**
+     * Maps every accounts filing of the transaction to a filing, reading all of them with one
+     * query, so the filing generator needs one call per transaction.
+     *
+     * @param transactionId - Transaction id
+     * @return the filings of the transaction in accounts filing id order, or 404 if it has none
+     */
+    @GetMapping("/filings")
+    public ResponseEntity<FilingApi[]> getFilingApiEntries(
+            @PathVariable("transactionId") final String transactionId) {
+
+        List<FilingDetailsProjection> accountsFilingEntries = accountsFilingService
+                .findAccountsFilingEntriesForTransaction(transactionId, FilingDetailsProjection.class);
+        if (accountsFilingEntries.isEmpty()) {
+            logger.error(String.format("%s: has no accounts filings", transactionId));
+            return ResponseEntity.notFound().build();
+        }
+
+        FilingApi[] filings = new FilingApi[accountsFilingEntries.size()];
+        for (int i = 0; i < filings.length; i++) {
+            filings[i] = filingGeneratorMapper.mapToFilingApi(accountsFilingEntries.get(i));
+        }
+        return ResponseEntity.ok(filings);
     }
 }
@@ -1,8 +1,15 @@
 package uk.gov.companieshouse.accounts.filing.controller;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,7 +17,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import jakarta.validation.Valid;
 import uk.gov.companieshouse.accounts.filing.controller.handler.controller.exception.ControllerExceptionHandler;
@@ -18,9 +29,13 @@ import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundExcep
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
 import uk.gov.companieshouse.accounts.filing.model.AccountsPackageType;
+import uk.gov.companieshouse.accounts.filing.model.projection.CostsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.observation.PackageTypeRequestObservationConvention;
 import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
 import uk.gov.companieshouse.accounts.filing.service.costs.CostsService;
 import uk.gov.companieshouse.accounts.filing.service.file.validation.AccountsValidationService;
+import uk.gov.companieshouse.accounts.filing.service.file.validation.ValidationStatusWatcher;
 import uk.gov.companieshouse.accounts.filing.service.transaction.TransactionService;
 import uk.gov.companieshouse.accounts.filing.transformer.TransactionTransformer;
 import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
@@ -31,32 +46,44 @@ import uk.gov.companieshouse.logging.Logger;
 @RequestMapping("/transactions/{transactionId}/accounts-filing/{accountsFilingId}")
 public class TransactionController {
 
+    private static final Duration LONG_POLL_GRACE = Duration.ofSeconds(5);
+
     private final Logger logger;
     private final AccountsValidationService accountsValidationService;
     private final AccountsFilingService accountsFilingService;
     private final TransactionService transactionService;
     private final TransactionTransformer accountsFilingTransformer;
     private final CostsService costsService;
+    private final ValidationStatusWatcher validationStatusWatcher;
+    private final Executor requestExecutor;
+    private final boolean concurrentPackageTypeUpdate;
 
     @Autowired
     public TransactionController(final Logger logger, final AccountsValidationService accountsValidationService,
                                  final AccountsFilingService accountsFilingService, final TransactionService transactionService,
-                                 final TransactionTransformer accountsFilingTransformer, final CostsService costsService) {
+                                 final TransactionTransformer accountsFilingTransformer, final CostsService costsService,
+                                 final ValidationStatusWatcher validationStatusWatcher,
+                                 @Qualifier("requestExecutor") final Executor requestExecutor,
+                                 @Value("${package-type.concurrent-update.enabled}") final boolean concurrentPackageTypeUpdate) {
         this.logger = logger;
         this.accountsValidationService = accountsValidationService;
         this.accountsFilingService = accountsFilingService;
         this.transactionService = transactionService;
         this.accountsFilingTransformer = accountsFilingTransformer;
         this.costsService = costsService;
+        this.validationStatusWatcher = validationStatusWatcher;
+        this.requestExecutor = requestExecutor;
+        this.concurrentPackageTypeUpdate = concurrentPackageTypeUpdate;
     }
 
     @GetMapping("/file/{fileId}/status")
     public ResponseEntity<AccountsValidatorStatusApi> fileAccountsValidatorStatus(@PathVariable("fileId") final String fileId, @PathVariable("accountsFilingId") final String accountsFilingId){
         
-        final Optional<AccountsValidatorStatusApi> accountsValidationResultOptional = accountsValidationService.validationStatusResult(fileId);
+        final AccountsFilingEntry filingEntry = accountsValidationService.getFilingEntry(accountsFilingId);
+        final Optional<AccountsValidatorStatusApi> accountsValidationResultOptional = accountsValidationService.validationStatusResult(filingEntry, fileId);
 
         if (accountsValidationResultOptional.isPresent()) {
-            final AccountsFilingEntry filingEntry = accountsValidationService.getFilingEntry(accountsFilingId);
+            PackageTypeRequestObservationConvention.recordPackageType(filingEntry.getPackageType());
             accountsValidationService.saveFileValidationResult(filingEntry, accountsValidationResultOptional.get());
         }
 
@@ -64,15 +91,47 @@ public class TransactionController {
         return ResponseEntity.of(accountsValidationResultOptional);
     }
 
+    /**
+     * Long-poll variant of the file status. The request is held, without a request thread, until
+     * the account validator has finished with the file or the long-poll timeout passes,
+     * and is then answered as the file status is. Requests for the same file share one polling
+     * loop against the account validator.
+     * @param fileId - id of the file
+     * @param accountsFilingId - Filing id of the accounts
+     * @return the validation status of the file, 404 if the account validator has no record of it
+     */
+    @GetMapping("/file/{fileId}/status/wait")
+    public DeferredResult<ResponseEntity<AccountsValidatorStatusApi>> awaitFileAccountsValidatorStatus(
+            @PathVariable("fileId") final String fileId, @PathVariable("accountsFilingId") final String accountsFilingId) {
+
+        final AccountsFilingEntry filingEntry = accountsValidationService.getFilingEntry(accountsFilingId);
+        final DeferredResult<ResponseEntity<AccountsValidatorStatusApi>> deferredResult = new DeferredResult<>(
+                validationStatusWatcher.getTimeout().plus(LONG_POLL_GRACE).toMillis());
+
+        validationStatusWatcher.await(filingEntry, fileId).whenComplete((accountsValidationResultOptional, e) -> {
+            if (e != null) {
+                deferredResult.setErrorResult(e);
+                return;
+            }
+            try {
+                accountsValidationResultOptional.ifPresent(
+                        result -> accountsValidationService.saveFileValidationResult(filingEntry, result));
+                deferredResult.setResult(ResponseEntity.of(accountsValidationResultOptional));
+            } catch (final RuntimeException ex) {
+                deferredResult.setErrorResult(ex);
+            }
+        });
+        return deferredResult;
+    }
+
     @PutMapping
     public ResponseEntity<String> setPackageType(@PathVariable("transactionId") final String transactionId, 
                                                  @PathVariable("accountsFilingId") final String accountsFilingId,
                                                  @Valid @RequestBody final AccountsPackageType packageType)
                                                  throws UriValidationException, EntryNotFoundException {
         
-        final AccountsFilingEntry entry = accountsFilingService.getFilingEntry(accountsFilingId);
-        accountsFilingService.savePackageType(entry, packageType.type());
-        final Optional<Transaction> optionalTransaction = transactionService.getTransaction(transactionId);
+        final Optional<Transaction> optionalTransaction = savePackageTypeAndGetTransaction(transactionId,
+                accountsFilingId, packageType.type());
 
         if (optionalTransaction.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -84,40 +143,111 @@ public class TransactionController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Saves the package type and fetches the transaction. The two calls are independent, so when
+     * concurrent update is enabled the transaction is fetched on the request executor while the
+     * package type is saved. A failed save is always reported in preference to a failed fetch,
+     * as it is when the calls run one after the other.
+     */
+    private Optional<Transaction> savePackageTypeAndGetTransaction(final String transactionId,
+            final String accountsFilingId, final String packageType) {
+        if (!concurrentPackageTypeUpdate) {
+            savePackageType(transactionId, accountsFilingId, packageType);
+            return transactionService.getTransaction(transactionId);
+        }
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final CompletableFuture<Optional<Transaction>> transaction = CompletableFuture
+                .supplyAsync(() -> getTransaction(transactionId, requestAttributes), requestExecutor);
+        try {
+            savePackageType(transactionId, accountsFilingId, packageType);
+        } catch (final RuntimeException e) {
+            transaction.cancel(true);
+            throw e;
+        }
+
+        try {
+            return transaction.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches the transaction with the attributes of the request that asked for it, so that the
+     * request id is sent on to the transactions API.
+     */
+    private Optional<Transaction> getTransaction(final String transactionId,
+            final RequestAttributes requestAttributes) {
+        final RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return transactionService.getTransaction(transactionId);
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+        }
+    }
+
+    private void savePackageType(final String transactionId, final String accountsFilingId, final String packageType) {
+        final AccountsFilingEntry accountsFilingEntry = accountsFilingService.savePackageType(transactionId,
+                accountsFilingId, packageType);
+        PackageTypeRequestObservationConvention.recordPackageType(accountsFilingEntry.getPackageType());
+    }
+
     /**
      * This method is used to validate the accounts filing data
      * @param transactionId - Transaction id
      * @param accountsFilingId - Filing id of the accounts
-     * @return contains the validation status of the account filing
+     * @param ifNoneMatch - entity tag of a validation status the client already holds
+     * @return contains the validation status of the account filing, or a 304 if it is unchanged
      */
     @GetMapping("/validation-status")
     public ResponseEntity<?> validateAccountsFilingData(@PathVariable("transactionId") final String transactionId,
-                                                        @PathVariable("accountsFilingId") final String accountsFilingId){
-        try{
-            final AccountsFilingEntry accountsFilingEntry = accountsFilingService.getAccountsFilingEntryForIDAndTransaction(transactionId,accountsFilingId);
-            return ResponseEntity.ok(accountsFilingService.validateAccountsFilingEntry(accountsFilingEntry));
+                                                        @PathVariable("accountsFilingId") final String accountsFilingId,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch){
+        final Optional<ResponseEntity<Object>> notModified = EntityTags.notModified(accountsFilingService,
+                transactionId, accountsFilingId, ifNoneMatch);
+        if (notModified.isPresent()) {
+            return notModified.get();
         }
-        catch(final EntryNotFoundException entryNotFoundException){
+        final Optional<FilingDetailsProjection> accountsFilingEntry = accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId,accountsFilingId, FilingDetailsProjection.class);
+        if (accountsFilingEntry.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        PackageTypeRequestObservationConvention.recordPackageType(accountsFilingEntry.get().getPackageType());
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(accountsFilingEntry.get().getVersion()))
+                .body(accountsFilingService.validateAccountsFilingEntry(accountsFilingEntry.get()));
     }
 
     /**
      * This method is used to calculate the costs for the filing
      * @param transactionId - Transaction id
      * @param accountsFilingId - Filing id of the accounts
-     * @return contains the cost of the account filing
+     * @param ifNoneMatch - entity tag of costs the client already holds
+     * @return contains the cost of the account filing, or a 304 if it is unchanged
      */
     @GetMapping("/costs")
     public ResponseEntity<?> calculateCosts(@PathVariable("transactionId") final String transactionId,
-                                            @PathVariable("accountsFilingId") final String accountsFilingId){
-        try{
-            final AccountsFilingEntry accountsFilingEntry = accountsFilingService.getAccountsFilingEntryForIDAndTransaction(transactionId,accountsFilingId);
-            return ResponseEntity.ok(costsService.calculateCosts(accountsFilingEntry));
+                                            @PathVariable("accountsFilingId") final String accountsFilingId,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch){
+        final String configurationTag = costsService.configurationTag();
+        final Optional<ResponseEntity<Object>> notModified = EntityTags.notModified(accountsFilingService,
+                transactionId, accountsFilingId, ifNoneMatch, configurationTag);
+        if (notModified.isPresent()) {
+            return notModified.get();
         }
-        catch(final EntryNotFoundException entryNotFoundException){
+        final Optional<CostsProjection> accountsFilingEntry = accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId,accountsFilingId, CostsProjection.class);
+        if (accountsFilingEntry.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        PackageTypeRequestObservationConvention.recordPackageType(accountsFilingEntry.get().getPackageType());
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(accountsFilingEntry.get().getVersion(), configurationTag))
+                .body(costsService.calculateCosts(accountsFilingEntry.get()));
     }
 
     /**
@@ -0,0 +1,104 @@
+package uk.gov.companieshouse.accounts.filing.controller;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import uk.gov.companieshouse.accounts.filing.controller.handler.controller.exception.ControllerExceptionHandler;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
+import uk.gov.companieshouse.accounts.filing.utils.validation.FormatValidator;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+import uk.gov.companieshouse.logging.Logger;
+
+@Controller
+@RequestMapping("/transactions/{transactionId}/accounts-filing")
+public class TransactionValidationController {
+
+    static final int MAX_ACCOUNTS_FILING_IDS = 100;
+
+    private final AccountsFilingService accountsFilingService;
+
+    private final Logger logger;
+
+    @Autowired
+    public TransactionValidationController(final AccountsFilingService accountsFilingService, final Logger logger) {
+        this.accountsFilingService = accountsFilingService;
+        this.logger = logger;
+    }
+
+    /**
+     * Validates several accounts filings of the transaction at once. The entries are read with a
+     * single query, so validating a whole transaction costs one call instead of one per filing.
+     *
+     * @param transactionId - Transaction id
+     * @param accountsFilingIds - Filing ids of the accounts to validate, or every filing of the
+     *                          transaction when not given
+     * @return the validation status of each accounts filing keyed by its id, in id order. 404 if
+     *         a given id is not a filing of the transaction or the transaction has no filings,
+     *         400 if an id is malformed or too many are given.
+     */
+    @GetMapping("/validation-status")
+    public ResponseEntity<Map<String, ValidationStatusResponse>> validateAccountsFilings(
+            @PathVariable("transactionId") final String transactionId,
+            @RequestParam(value = "ids", required = false) final List<String> accountsFilingIds) {
+
+        final List<FilingDetailsProjection> accountsFilingEntries;
+        if (accountsFilingIds == null) {
+            accountsFilingEntries = accountsFilingService.findAccountsFilingEntriesForTransaction(transactionId,
+                    FilingDetailsProjection.class);
+        } else {
+            final Set<String> ids = new LinkedHashSet<>(accountsFilingIds);
+            if (ids.isEmpty() || ids.size() > MAX_ACCOUNTS_FILING_IDS) {
+                logger.error(String.format("%d accounts filing ids requested, expected 1 to %d",
+                        ids.size(), MAX_ACCOUNTS_FILING_IDS));
+                return ResponseEntity.badRequest().build();
+            }
+            for (final String id : ids) {
+                if (!FormatValidator.isObjectId(id)) {
+                    logger.error(String.format("%s: is not a valid accountFilingId", id));
+                    return ResponseEntity.badRequest().build();
+                }
+            }
+            accountsFilingEntries = accountsFilingService.findAccountsFilingEntriesForIDsAndTransaction(
+                    transactionId, ids, FilingDetailsProjection.class);
+            if (accountsFilingEntries.size() != ids.size()) {
+                logger.error(String.format("%s: did not match every requested accountFilingId", transactionId));
+                return ResponseEntity.notFound().build();
+            }
+        }
+        if (accountsFilingEntries.isEmpty()) {
+            logger.error(String.format("%s: has no accounts filings", transactionId));
+            return ResponseEntity.notFound().build();
+        }
+
+        final Map<String, ValidationStatusResponse> validationStatuses = new LinkedHashMap<>();
+        for (final FilingDetailsProjection accountsFilingEntry : accountsFilingEntries) {
+            validationStatuses.put(accountsFilingEntry.getAccountsFilingId(),
+                    accountsFilingService.validateAccountsFilingEntry(accountsFilingEntry));
+        }
+        return ResponseEntity.ok(validationStatuses);
+    }
+
+    /**
+     * Handles all un-caught exceptions
+     *
+     * @param ex the exception
+     * @return response
+     */
+    @ExceptionHandler
+    ResponseEntity<String> exceptionHandler(final Exception ex) {
+        return ControllerExceptionHandler.handleExpection(ex, logger);
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.companieshouse.accounts.filing.controller.handler.controller.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
@@ -17,6 +19,7 @@ public class ControllerExceptionHandler {
             case ResponseException e -> responseException(e, logger);
             case UriValidationException e -> validationException(e, logger);
             case EntryNotFoundException e -> entryNotFoundException();
+            case OptimisticLockingFailureException e -> conflictException(e, logger);
             default -> exceptionHandler(ex, logger);
         };
     }
@@ -50,6 +53,17 @@ public class ControllerExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Handles the exception thrown when an entry kept changing while it was being updated.
+     *
+     * @return 409 conflict response
+     */
+    private static ResponseEntity<String> conflictException(final OptimisticLockingFailureException e,
+            final Logger logger) {
+        logger.error("Concurrent update conflict", e);
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
     /**
      * Handles all un-caught exceptions
      *
@@ -0,0 +1,131 @@
+package uk.gov.companieshouse.accounts.filing.interceptor.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
+import uk.gov.companieshouse.accounts.filing.utils.validation.FormatValidator;
+import uk.gov.companieshouse.logging.Logger;
+
+/**
+ * Checks every id on the request path in one pass and rejects the request with a 400 if any is
+ * malformed. The ids to check are worked out once per route pattern, from the variables the
+ * pattern declares, and kept for later requests to the same route. Routes with a company number
+ * take their transaction id only in the 000000-000000-000000 form, as the company controller
+ * always required.
+ */
+@Component
+public class PathIdInterceptor implements HandlerInterceptor {
+
+    private static final PathId[] NO_PATH_IDS = new PathId[0];
+
+    private final Map<String, PathId[]> routes = new ConcurrentHashMap<>();
+
+    private final Logger logger;
+
+    @Autowired
+    PathIdInterceptor(final Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+            final Object handler) {
+        final var pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        final PathId[] pathIds = routes.computeIfAbsent(pattern, PathIdInterceptor::resolvePathIds);
+        if (pathIds.length == 0) {
+            return true;
+        }
+
+        final Map<String, String> pathVariables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        for (final PathId pathId : pathIds) {
+            final String value = pathVariables == null ? null : pathVariables.get(pathId.key);
+            if (!pathId.format.test(value)) {
+                logger.infoContext(request.getHeader(Constants.ERIC_REQUEST_ID_KEY),
+                        String.format("%s did not match allowed chars and length", pathId.description),
+                        new HashMap<>());
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param pattern - route pattern, such as /transactions/{transactionId}/accounts-filing
+     * @return the ids declared by the pattern, in path order
+     */
+    static PathId[] resolvePathIds(final String pattern) {
+        final List<PathId> pathIds = new ArrayList<>();
+        int start = pattern.indexOf('{');
+        while (start >= 0) {
+            final int end = pattern.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            final PathId pathId = PathId.forVariable(variableName(pattern, start + 1, end));
+            if (pathId != null) {
+                pathIds.add(pathId);
+            }
+            start = pattern.indexOf('{', end);
+        }
+        if (pathIds.contains(PathId.COMPANY_NUMBER)) {
+            pathIds.replaceAll(pathId -> pathId == PathId.TRANSACTION_ID ? PathId.DASHED_TRANSACTION_ID : pathId);
+        }
+        return pathIds.isEmpty() ? NO_PATH_IDS : pathIds.toArray(NO_PATH_IDS);
+    }
+
+    /**
+     * @return the name of a {name}, {name:regex} or {*name} variable
+     */
+    private static String variableName(final String pattern, final int start, final int end) {
+        final int nameStart = start < end && pattern.charAt(start) == '*' ? start + 1 : start;
+        final int colon = pattern.indexOf(':', nameStart);
+        return pattern.substring(nameStart, colon >= 0 && colon < end ? colon : end);
+    }
+
+    enum PathId {
+        TRANSACTION_ID(Constants.TRANSACTION_ID_KEY, "Transaction id", FormatValidator::isTransactionId),
+        ACCOUNTS_FILING_ID(Constants.ACCOUNT_FILING_ID_KEY, "Accounts filing id", FormatValidator::isObjectId),
+        FILE_ID(Constants.FILE_ID_KEY, "File id", FormatValidator::isLowerCaseUuid),
+        COMPANY_NUMBER(Constants.COMPANY_NUMBER_KEY, "Company number", FormatValidator::isCompanyNumber),
+        // Never returned by forVariable, as TRANSACTION_ID comes first
+        DASHED_TRANSACTION_ID(Constants.TRANSACTION_ID_KEY, "Transaction id", FormatValidator::isDashedTransactionId);
+
+        private final String key;
+
+        private final String description;
+
+        private final Predicate<String> format;
+
+        PathId(final String key, final String description, final Predicate<String> format) {
+            this.key = key;
+            this.description = description;
+            this.format = format;
+        }
+
+        static PathId forVariable(final String name) {
+            for (final PathId pathId : values()) {
+                if (pathId.key.equals(name)) {
+                    return pathId;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -7,81 +7,83 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
 import uk.gov.companieshouse.accounts.filing.model.types.AccountsType;
-import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+import uk.gov.companieshouse.accounts.filing.template.PackageTypeTemplates;
+import uk.gov.companieshouse.accounts.filing.template.PackageTypeTemplates.PackageTypeTemplate;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 
 @Component
 public class FilingGeneratorMapper {
 
-    @Value("${file.bucket}")
-    private String bucket;
+    private static final DateTimeFormatter FROM_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    @Value("${file.scheme}")
-    private String scheme;
+    private static final DateTimeFormatter TO_FORMAT = DateTimeFormatter.ofPattern("d MMMM yyyy");
 
-    @Value("${fee.cic.accounts}")
-    private String cicCost;
+    private final PackageTypeTemplates packageTypeTemplates;
 
-    @Value("${fee.overseas.accounts}")
-    private String overseasCost;
+    @Autowired
+    public FilingGeneratorMapper(PackageTypeTemplates packageTypeTemplates) {
+        this.packageTypeTemplates = packageTypeTemplates;
+    }
 
-    public FilingApi mapToFilingApi(AccountsFilingEntry accountsFilingEntry) {
+    public FilingApi mapToFilingApi(FilingDetailsProjection accountsFilingEntry) {
 
         var madeUpDate = accountsFilingEntry.getMadeUpDate();
-        // Description value
-        Map<String, String> descriptionValue = Collections.singletonMap("made up date", madeUpDate);
+        var template = packageTypeTemplates.get(accountsFilingEntry.getPackageType());
 
         var filingApiEntity = new FilingApi();
-        switch (accountsFilingEntry.getPackageType()) {
-            case PackageTypeApi.OVERSEAS:
-                filingApiEntity.setCost(overseasCost);
-                filingApiEntity.setDescription("Package accounts with package type overseas");
-                break;
-            case PackageTypeApi.CIC:
-                filingApiEntity.setCost(cicCost);
-            default:
-                filingApiEntity.setDescription("Package accounts made up to " + formatMadeUpDate(madeUpDate));
-                break;
+        if (template.cost() != null) {
+            filingApiEntity.setCost(template.cost().getFee());
+        }
+        if (template.filingDescription() != null) {
+            filingApiEntity.setDescription(template.filingDescription());
+        } else {
+            filingApiEntity.setDescription("Package accounts made up to " + formatMadeUpDate(madeUpDate));
         }
 
         filingApiEntity.setDescriptionIdentifier(getAccountTypeName(accountsFilingEntry));
-        filingApiEntity.setDescriptionValues(descriptionValue);
+        // Description value
+        filingApiEntity.setDescriptionValues(Collections.singletonMap("made up date", madeUpDate));
         filingApiEntity.setKind("accounts");
-        filingApiEntity.setData(mapData(accountsFilingEntry, madeUpDate));
+        filingApiEntity.setData(mapData(accountsFilingEntry, template, madeUpDate));
 
         return filingApiEntity;
     }
 
-    private String getAccountTypeName(AccountsFilingEntry accountsFilingEntry) {
+    /**
+     * @return the tag of the configuration the filings are built from, such as the fees and the
+     *          file location
+     */
+    public String configurationTag() {
+        return packageTypeTemplates.configurationTag();
+    }
+
+    private String getAccountTypeName(FilingDetailsProjection accountsFilingEntry) {
         return AccountsType.fromStemCode(accountsFilingEntry.getAccountsType()).getType();
     }
 
-    private Map<String, Object> mapData(AccountsFilingEntry accountsFilingEntry, String madeUpDate) {
+    private Map<String, Object> mapData(FilingDetailsProjection accountsFilingEntry, PackageTypeTemplate template,
+            String madeUpDate) {
         Map<String, Object> data = new HashMap<>();
-        data.put("package_type", accountsFilingEntry.getPackageType().toString());
+        data.put("package_type", template.packageTypeName());
         data.put("accounts_type", accountsFilingEntry.getAccountsType());
         data.put("links", mapLinks(accountsFilingEntry));
         data.put("period_end_on", madeUpDate);
         return data;
     }
 
-    private List<Map<String, String>> mapLinks(AccountsFilingEntry accountsFilingEntry) {
-        Map<String, String> location = new HashMap<>();
-        location.put("rel", "accounts");
+    private List<Map<String, String>> mapLinks(FilingDetailsProjection accountsFilingEntry) {
         // The file id location
-        location.put("href", String.format("%s%s/%s", scheme, bucket, accountsFilingEntry.getFileId()));
-        return List.of(location);
+        return List.of(Map.of("rel", "accounts",
+                "href", packageTypeTemplates.fileLink(accountsFilingEntry.getFileId())));
     }
 
     private String formatMadeUpDate(String madeUpDate) {
-        DateTimeFormatter fromFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        DateTimeFormatter toFormat = DateTimeFormatter.ofPattern("d MMMM yyyy");
-        return LocalDate.parse(madeUpDate, fromFormat).format(toFormat);
+        return LocalDate.parse(madeUpDate, FROM_FORMAT).format(TO_FORMAT);
     }
 
 }
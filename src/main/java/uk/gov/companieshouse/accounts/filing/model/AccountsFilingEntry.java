@@ -1,12 +1,16 @@
 package uk.gov.companieshouse.accounts.filing.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
 import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
 
 @Document("accounts_filing")
+@CompoundIndex(name = "transaction_id_idx", def = "{'transactionId': 1, '_id': 1}")
 public class AccountsFilingEntry {
 
     @Id
@@ -33,6 +37,17 @@ public class AccountsFilingEntry {
     @Field()
     private String madeUpDate;
 
+    @Field()
+    private AccountsValidatorStatusApi validationResult;
+
+    /**
+     * Incremented by every update of the stored entry. Updates that read the entry first only
+     * write when the stored version still matches. Unset on entries stored before the version
+     * was added, until they are first updated.
+     */
+    @Version
+    @Field()
+    private Long version;
 
     public AccountsFilingEntry(final String accountsFilingId, final String fileId, final String accountsType, final PackageTypeApi packageType,
                                final String transactionId, final String companyNumber, final String companyName, final String madeUpDate) {
@@ -52,6 +67,18 @@ public class AccountsFilingEntry {
 
     AccountsFilingEntry() { }
 
+    /**
+     * @return a copy of this entry, including its version, that can be changed without changing
+     *         this entry
+     */
+    public AccountsFilingEntry copy() {
+        final AccountsFilingEntry copy = new AccountsFilingEntry(accountsFilingId, fileId, accountsType, packageType,
+                transactionId, companyNumber, companyName, madeUpDate);
+        copy.validationResult = validationResult;
+        copy.version = version;
+        return copy;
+    }
+
     public String getAccountsFilingId() {
         return accountsFilingId;
     }
@@ -100,6 +127,18 @@ public class AccountsFilingEntry {
         this.madeUpDate = madeUpDate;
     }
 
+    public AccountsValidatorStatusApi getValidationResult() {
+        return validationResult;
+    }
+
+    public void setValidationResult(final AccountsValidatorStatusApi validationResult) {
+        this.validationResult = validationResult;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -112,6 +151,8 @@ public class AccountsFilingEntry {
         result = prime * result + ((companyNumber == null) ? 0 : companyNumber.hashCode());
         result = prime * result + ((companyName == null) ? 0 : companyName.hashCode());
         result = prime * result + ((madeUpDate == null) ? 0 : madeUpDate.hashCode());
+        result = prime * result + ((validationResult == null) ? 0 : validationResult.hashCode());
+        result = prime * result + ((version == null) ? 0 : version.hashCode());
         return result;
     }
 
@@ -161,6 +202,16 @@ public class AccountsFilingEntry {
                 return false;
         } else if (!madeUpDate.equals(other.madeUpDate))
             return false;
+        if (validationResult == null) {
+            if (other.validationResult != null)
+                return false;
+        } else if (!validationResult.equals(other.validationResult))
+            return false;
+        if (version == null) {
+            if (other.version != null)
+                return false;
+        } else if (!version.equals(other.version))
+            return false;
         return true;
     }
 
@@ -169,6 +220,6 @@ public class AccountsFilingEntry {
         return "AccountsFilingEntry [accountsFilingId=" + accountsFilingId + ", fileId=" + fileId + ", accountsType="
                 + accountsType + ", packageType=" + packageType + ", transactionId=" + transactionId
                 + ", companyNumber=" + companyNumber + ", companyName=" + companyName + ", madeUpDate=" + madeUpDate
-                + "]";
+                + ", validationResult=" + validationResult + ", version=" + version + "]";
     }
 }
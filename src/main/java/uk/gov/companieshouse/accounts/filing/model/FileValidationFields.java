@@ -0,0 +1,19 @@
+package uk.gov.companieshouse.accounts.filing.model;
+
+import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
+
+/**
+ * The fields of an accounts filing entry written from an account validator result.
+ */
+public record FileValidationFields(String fileId, String accountsType, String madeUpDate,
+        AccountsValidatorStatusApi validationResult) {
+
+    /**
+     * @param accountsFilingEntry - the entry to read the fields from
+     * @return the validation fields as they are on the entry
+     */
+    public static FileValidationFields of(final AccountsFilingEntry accountsFilingEntry) {
+        return new FileValidationFields(accountsFilingEntry.getFileId(), accountsFilingEntry.getAccountsType(),
+                accountsFilingEntry.getMadeUpDate(), accountsFilingEntry.getValidationResult());
+    }
+}
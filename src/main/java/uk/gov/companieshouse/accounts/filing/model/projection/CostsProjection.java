@@ -0,0 +1,13 @@
+package uk.gov.companieshouse.accounts.filing.model.projection;
+
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+/**
+ * The fields of an accounts filing entry needed to calculate the costs of the filing.
+ */
+public interface CostsProjection extends VersionProjection {
+
+    PackageTypeApi getPackageType();
+
+    String getCompanyName();
+}
@@ -0,0 +1,21 @@
+package uk.gov.companieshouse.accounts.filing.model.projection;
+
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+/**
+ * The fields of an accounts filing entry needed to validate the entry and to map it to a filing.
+ */
+public interface FilingDetailsProjection extends VersionProjection {
+
+    String getAccountsFilingId();
+
+    String getTransactionId();
+
+    PackageTypeApi getPackageType();
+
+    String getAccountsType();
+
+    String getMadeUpDate();
+
+    String getFileId();
+}
@@ -0,0 +1,18 @@
+package uk.gov.companieshouse.accounts.filing.model.projection;
+
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+/**
+ * The fields of an accounts filing entry needed to answer a conditional request without reading
+ * the rest of the entry.
+ * <p>
+ * {@link uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry} must not implement
+ * this or any other projection. Spring Data only limits the fields read to those of a projection
+ * that the entity is not assignable to.
+ */
+public interface VersionProjection {
+
+    Long getVersion();
+
+    PackageTypeApi getPackageType();
+}
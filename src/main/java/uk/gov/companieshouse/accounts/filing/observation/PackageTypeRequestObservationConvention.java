@@ -0,0 +1,51 @@
+package uk.gov.companieshouse.accounts.filing.observation;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+/**
+ * Adds a {@code package_type} tag to the {@code http.server.requests} metrics, on top of the
+ * default uri, method, status and outcome tags. Handlers record the package type of the filing
+ * they served with {@link #recordPackageType(PackageTypeApi)}; requests that never learn it,
+ * such as creating a new filing, are tagged {@code none}.
+ */
+@Component
+public class PackageTypeRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String PACKAGE_TYPE_TAG = "package_type";
+    static final String PACKAGE_TYPE_ATTRIBUTE = PackageTypeRequestObservationConvention.class.getName()
+            + ".packageType";
+    static final String NO_PACKAGE_TYPE = "none";
+
+    /**
+     * Records the package type of the filing served by the current request. Does nothing when
+     * called outside a request or without a package type.
+     *
+     * @param packageType - package type of the filing
+     */
+    public static void recordPackageType(final PackageTypeApi packageType) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null && packageType != null) {
+            requestAttributes.setAttribute(PACKAGE_TYPE_ATTRIBUTE, packageType, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(final ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(packageType(context));
+    }
+
+    private KeyValue packageType(final ServerRequestObservationContext context) {
+        if (context.getCarrier().getAttribute(PACKAGE_TYPE_ATTRIBUTE) instanceof PackageTypeApi packageType) {
+            return KeyValue.of(PACKAGE_TYPE_TAG, packageType.name());
+        }
+        return KeyValue.of(PACKAGE_TYPE_TAG, NO_PACKAGE_TYPE);
+    }
+}
@@ -1,9 +1,77 @@
 package uk.gov.companieshouse.accounts.filing.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
+
+public interface AccountsFilingRepository extends MongoRepository<AccountsFilingEntry, String>,
+        AccountsFilingRepositoryCustom {
+
+    /**
+     * Read-through lookup of an accounts filing entry. Missing entries are not cached.
+     *
+     * @param accountsFilingId - id of the accounts filing entry
+     * @return the entry if it exists
+     */
+    @Override
+    @Cacheable(cacheNames = Constants.ACCOUNTS_FILING_CACHE, key = "#p0", unless = "#result == null")
+    Optional<AccountsFilingEntry> findById(String accountsFilingId);
+
+    /**
+     * Saves the entry and refreshes its cached copy. The cached copy is evicted before
+     * the write so a failed save can not leave a modified but unsaved entry in the cache.
+     *
+     * @param accountsFilingEntry - entry to save
+     * @return the saved entry
+     */
+    @Override
+    @Caching(
+            evict = @CacheEvict(cacheNames = Constants.ACCOUNTS_FILING_CACHE, key = "#p0.accountsFilingId",
+                    condition = "#p0.accountsFilingId != null", beforeInvocation = true),
+            put = @CachePut(cacheNames = Constants.ACCOUNTS_FILING_CACHE, key = "#result.accountsFilingId"))
+    <S extends AccountsFilingEntry> S save(S accountsFilingEntry);
+
+    /**
+     * Looks up an accounts filing entry that belongs to the given transaction. The transaction id
+     * is matched in the query, so an entry owned by another transaction is never read back.
+     * Passing a projection type limits the fields read from the document to those of the projection.
+     *
+     * @param accountsFilingId - id of the accounts filing entry
+     * @param transactionId - id of the transaction the entry must belong to
+     * @param type - the entity class or a projection of it
+     * @return the entry if it exists and belongs to the transaction
+     */
+    <T> Optional<T> findByAccountsFilingIdAndTransactionId(String accountsFilingId, String transactionId,
+            Class<T> type);
+
+    /**
+     * Looks up every accounts filing entry that belongs to the given transaction, in id order,
+     * in one query served by the transaction id index.
+     *
+     * @param transactionId - id of the transaction
+     * @param type - the entity class or a projection of it
+     * @return the entries of the transaction, empty if it has none
+     */
+    <T> List<T> findByTransactionIdOrderByAccountsFilingIdAsc(String transactionId, Class<T> type);
 
-public interface AccountsFilingRepository extends MongoRepository<AccountsFilingEntry, String>{
-    
+    /**
+     * Looks up the given accounts filing entries in one $in query, in id order. Only entries that
+     * belong to the given transaction are read back.
+     *
+     * @param transactionId - id of the transaction the entries must belong to
+     * @param accountsFilingIds - ids of the accounts filing entries
+     * @param type - the entity class or a projection of it
+     * @return the entries that exist and belong to the transaction
+     */
+    <T> List<T> findByTransactionIdAndAccountsFilingIdInOrderByAccountsFilingIdAsc(String transactionId,
+            Collection<String> accountsFilingIds, Class<T> type);
 }
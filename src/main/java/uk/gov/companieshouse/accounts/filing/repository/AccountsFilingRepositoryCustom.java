@@ -0,0 +1,44 @@
+package uk.gov.companieshouse.accounts.filing.repository;
+
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.FileValidationFields;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+/**
+ * Targeted updates of accounts filing entries. Each update only sets the fields it owns
+ * instead of replacing the whole document, and increments the version of the entry.
+ */
+public interface AccountsFilingRepositoryCustom {
+
+    /**
+     * Sets the package type of the entry in a single find and modify. Only an entry with the given
+     * id that belongs to the given transaction is updated.
+     *
+     * @param accountsFilingId - id of the accounts filing entry
+     * @param transactionId - id of the transaction the entry must belong to
+     * @param packageType - the package type to set
+     * @return the updated entry, or empty if no entry matched
+     */
+    @CachePut(cacheNames = Constants.ACCOUNTS_FILING_CACHE, key = "#p0", unless = "#result == null")
+    Optional<AccountsFilingEntry> findAndUpdatePackageType(String accountsFilingId, String transactionId,
+            PackageTypeApi packageType);
+
+    /**
+     * Sets the file id, accounts type, made up date and validation result of the stored entry.
+     * The stored entry is only updated if its version is still the given version. The cached
+     * entry is evicted before the write, so a failed write can not leave a stale entry cached.
+     *
+     * @param accountsFilingId - id of the accounts filing entry
+     * @param version - version of the entry the fields were derived from
+     * @param fields - the new file validation fields
+     * @return true if a stored entry was matched, false if it is missing or has a newer version
+     */
+    @CacheEvict(cacheNames = Constants.ACCOUNTS_FILING_CACHE, key = "#p0", beforeInvocation = true)
+    boolean updateFileValidationResult(String accountsFilingId, Long version, FileValidationFields fields);
+}
@@ -0,0 +1,67 @@
+package uk.gov.companieshouse.accounts.filing.repository;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.FileValidationFields;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+public class AccountsFilingRepositoryCustomImpl implements AccountsFilingRepositoryCustom {
+
+    static final String ID = "_id";
+    static final String FILE_ID = "fileId";
+    static final String ACCOUNTS_TYPE = "accountsType";
+    static final String PACKAGE_TYPE = "packageType";
+    static final String TRANSACTION_ID = "transactionId";
+    static final String MADE_UP_DATE = "madeUpDate";
+    static final String VALIDATION_RESULT = "validationResult";
+    static final String VERSION = "version";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public AccountsFilingRepositoryCustomImpl(final MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<AccountsFilingEntry> findAndUpdatePackageType(final String accountsFilingId,
+            final String transactionId, final PackageTypeApi packageType) {
+        final Query query = Query.query(Criteria.where(ID).is(accountsFilingId)
+                .and(TRANSACTION_ID).is(transactionId));
+        final Update update = new Update()
+                .set(PACKAGE_TYPE, packageType)
+                .inc(VERSION, 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), AccountsFilingEntry.class));
+    }
+
+    @Override
+    public boolean updateFileValidationResult(final String accountsFilingId, final Long version,
+            final FileValidationFields fields) {
+        final Update update = new Update()
+                .set(FILE_ID, fields.fileId())
+                .set(ACCOUNTS_TYPE, fields.accountsType())
+                .set(MADE_UP_DATE, fields.madeUpDate())
+                .set(VALIDATION_RESULT, fields.validationResult())
+                .inc(VERSION, 1);
+        return updateEntry(accountsFilingId, version, update);
+    }
+
+    /**
+     * A null version also matches entries stored before the version was added, which have no
+     * version field.
+     */
+    private boolean updateEntry(final String accountsFilingId, final Long version, final Update update) {
+        final Query query = Query.query(Criteria.where(ID).is(accountsFilingId)
+                .and(VERSION).is(version));
+        return mongoTemplate.updateFirst(query, update, AccountsFilingEntry.class).getMatchedCount() > 0;
+    }
+}
@@ -0,0 +1,71 @@
+package uk.gov.companieshouse.accounts.filing.repository;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+
+/**
+ * Retries read-modify-write updates of an accounts filing entry that lost a race with another
+ * update. Each attempt writes only if the stored entry still has the version that was read, so a
+ * concurrent update is detected instead of overwritten, and the change is applied again to the
+ * entry as it now is. Conflicts and retries are counted per operation.
+ */
+@Component
+public class VersionConflictRetry {
+
+    public static final String CONFLICTS = "accounts.filing.update.conflicts";
+    public static final String RETRIES = "accounts.filing.update.retries";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+
+    @Autowired
+    public VersionConflictRetry(final MeterRegistry meterRegistry,
+            @Value("${accounts-filing.update.max-attempts}") final int maxAttempts) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * @param operation - name of the update, used as the {@code operation} tag
+     * @param entry     - the entry as it was read
+     * @param update    - applies the change to an entry and writes it if the stored version still
+     *                    matches, returning false if it did not
+     * @param reload    - reads the stored entry again, throwing if it no longer exists
+     * @throws OptimisticLockingFailureException when every attempt conflicted
+     */
+    public void update(final String operation, final AccountsFilingEntry entry,
+            final Predicate<AccountsFilingEntry> update, final Supplier<AccountsFilingEntry> reload) {
+        AccountsFilingEntry current = entry;
+        int attempt = 1;
+        while (!update.test(current)) {
+            current = reload.get();
+            counter(CONFLICTS, "Updates of accounts filing entries that found a newer version", operation)
+                    .increment();
+            if (attempt >= maxAttempts) {
+                throw new OptimisticLockingFailureException(String.format(
+                        "Account filing id: %s was updated concurrently %d times during %s",
+                        current.getAccountsFilingId(), attempt, operation));
+            }
+            counter(RETRIES, "Updates of accounts filing entries retried after a conflict", operation)
+                    .increment();
+            attempt++;
+        }
+    }
+
+    private Counter counter(final String name, final String description, final String operation) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
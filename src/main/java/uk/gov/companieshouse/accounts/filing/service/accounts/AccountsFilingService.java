@@ -1,16 +1,25 @@
 package uk.gov.companieshouse.accounts.filing.service.accounts;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
 
 public interface AccountsFilingService {
 
-    public void savePackageType(AccountsFilingEntry accountsFilingEntry, String packageType) throws UriValidationException;
+    public AccountsFilingEntry savePackageType(String transactionId, String accountsFilingId, String packageType) throws UriValidationException;
 
     public AccountsFilingEntry getFilingEntry(String accountsFilingId);
 
-    public ValidationStatusResponse validateAccountsFilingEntry(AccountsFilingEntry accountsFilingEntry);
+    public ValidationStatusResponse validateAccountsFilingEntry(FilingDetailsProjection accountsFilingEntry);
+
+    public <T> Optional<T> findAccountsFilingEntryForIDAndTransaction(String transactionId, String accountsFilingId, Class<T> type);
+
+    public <T> List<T> findAccountsFilingEntriesForTransaction(String transactionId, Class<T> type);
 
-    public AccountsFilingEntry getAccountsFilingEntryForIDAndTransaction(String transactionId, String accountsFilingId);
+    public <T> List<T> findAccountsFilingEntriesForIDsAndTransaction(String transactionId, Collection<String> accountsFilingIds, Class<T> type);
 }
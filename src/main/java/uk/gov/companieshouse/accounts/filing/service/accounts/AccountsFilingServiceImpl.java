@@ -1,6 +1,8 @@
 package uk.gov.companieshouse.accounts.filing.service.accounts;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Service;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
 import uk.gov.companieshouse.accounts.filing.repository.AccountsFilingRepository;
 import uk.gov.companieshouse.accounts.filing.utils.mapping.ImmutableConverter;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
@@ -35,11 +38,22 @@ public class AccountsFilingServiceImpl implements AccountsFilingService {
         this.logger = logger;
     }
 
+    /**
+     * Sets the package type of the accounts filing entry in a single find and modify. The entry
+     * is only updated when it belongs to the given transaction.
+     *
+     * @param transactionId    - ID of the transaction the entry must belong to
+     * @param accountsFilingId - Filing id of the accounts
+     * @param packageType      - the package type to set
+     * @return AccountsFilingEntry - the updated accounts filing entry
+     */
     @Override
-    public void savePackageType(final AccountsFilingEntry accountsFilingEntry, final String packageType) {
+    public AccountsFilingEntry savePackageType(final String transactionId, final String accountsFilingId,
+            final String packageType) {
 
+        final PackageTypeApi packageTypeApi;
         try {
-            accountsFilingEntry.setPackageType(PackageTypeApi.findPackageType(packageType));
+            packageTypeApi = PackageTypeApi.findPackageType(packageType);
         } catch (URIValidationException e) {
             // Finding package type throw a URIValidationException.
             // Re-throwing as a runtime exception UriValidationException
@@ -47,10 +61,13 @@ public class AccountsFilingServiceImpl implements AccountsFilingService {
             throw new UriValidationException(e);
         }
 
-        accountsFilingRepository.save(accountsFilingEntry);
+        final AccountsFilingEntry accountsFilingEntry = accountsFilingRepository
+                .findAndUpdatePackageType(accountsFilingId, transactionId, packageTypeApi)
+                .orElseThrow(() -> entryNotFoundForTransaction(transactionId, accountsFilingId));
         final var message = String.format("Account filing id: %s has been updated to include package type: %s",
-                accountsFilingEntry.getAccountsFilingId(), packageType);
+                accountsFilingId, packageType);
         logger.debug(message);
+        return accountsFilingEntry;
     }
 
     @Override
@@ -58,15 +75,19 @@ public class AccountsFilingServiceImpl implements AccountsFilingService {
         final Optional<AccountsFilingEntry> optionalEntry = accountsFilingRepository.findById(accountsFilingId);
 
         if (optionalEntry.isEmpty()) {
-            final var message = String.format("Entry with accountFilingId: %s was not found", accountsFilingId);
-            logger.errorContext(accountsFilingId, message, null, ImmutableConverter.toMutableMap(Map.of(
-                    "expected", "accountsFilingEntry Object",
-                    "status", "empty optional")));
-            throw new EntryNotFoundException(message);
+            throw entryNotFound(accountsFilingId);
         }
         return optionalEntry.get();
     }
 
+    private EntryNotFoundException entryNotFound(final String accountsFilingId) {
+        final var message = String.format("Entry with accountFilingId: %s was not found", accountsFilingId);
+        logger.errorContext(accountsFilingId, message, null, ImmutableConverter.toMutableMap(Map.of(
+                "expected", "accountsFilingEntry Object",
+                "status", "empty optional")));
+        return new EntryNotFoundException(message);
+    }
+
     /**
      * This method used to validate the data in accounts filing entry
      *
@@ -76,7 +97,7 @@ public class AccountsFilingServiceImpl implements AccountsFilingService {
      *         accounts filing entry
      */
     @Override
-    public ValidationStatusResponse validateAccountsFilingEntry(final AccountsFilingEntry accountsFilingEntry) {
+    public ValidationStatusResponse validateAccountsFilingEntry(final FilingDetailsProjection accountsFilingEntry) {
         final var validationStatus = accountsFilingValidator.validateAccountsFilingEntry(accountsFilingEntry);
 
         if (!validationStatus.isValid()) {
@@ -105,25 +126,65 @@ public class AccountsFilingServiceImpl implements AccountsFilingService {
     }
 
     /**
-     * This method used to get the accounts filing entry for the given transaction
-     * id and accounts filing id
+     * This method used to find the accounts filing entry for the given transaction
+     * id and accounts filing id. The ownership check is done by the database query.
      *
      * @param transactionId    - ID of the transaction
      * @param accountsFilingId - Filing id of the accounts
-     * @return AccountsFilingEntry - returns accounts filing entry for the given
-     *         transaction id and accounts filing id.
+     * @param type             - the entity class, or a projection when only some fields are needed
+     * @return the accounts filing entry, or empty when there is no entry with the
+     *         given id that belongs to the transaction.
      */
     @Override
-    public AccountsFilingEntry getAccountsFilingEntryForIDAndTransaction(final String transactionId,
-            final String accountsFilingId) {
-        final AccountsFilingEntry accountsFilingEntry = getFilingEntry(accountsFilingId);
-        if (transactionId != null && transactionId.equals(accountsFilingEntry.getTransactionId())) {
-            return accountsFilingEntry;
-        } else {
-            final var message = String.format("Entry with accountFilingId: %s and transaction id: %s was not found",
-                    accountsFilingId, transactionId);
-            logger.error(message);
-            throw new EntryNotFoundException(message);
+    public <T> Optional<T> findAccountsFilingEntryForIDAndTransaction(final String transactionId,
+            final String accountsFilingId, final Class<T> type) {
+        if (transactionId == null) {
+            return Optional.empty();
+        }
+        return accountsFilingRepository.findByAccountsFilingIdAndTransactionId(accountsFilingId, transactionId, type);
+    }
+
+    /**
+     * This method used to find every accounts filing entry of the given transaction with a single
+     * query.
+     *
+     * @param transactionId - ID of the transaction
+     * @param type          - the entity class, or a projection when only some fields are needed
+     * @return the accounts filing entries in id order, or empty when the transaction has none
+     */
+    @Override
+    public <T> List<T> findAccountsFilingEntriesForTransaction(final String transactionId, final Class<T> type) {
+        if (transactionId == null) {
+            return List.of();
+        }
+        return accountsFilingRepository.findByTransactionIdOrderByAccountsFilingIdAsc(transactionId, type);
+    }
+
+    /**
+     * This method used to find the given accounts filing entries of the transaction with a single
+     * query. The ownership check is done by the database query.
+     *
+     * @param transactionId     - ID of the transaction
+     * @param accountsFilingIds - Filing ids of the accounts
+     * @param type              - the entity class, or a projection when only some fields are needed
+     * @return the accounts filing entries in id order. Ids with no entry that belongs to the
+     *         transaction are left out.
+     */
+    @Override
+    public <T> List<T> findAccountsFilingEntriesForIDsAndTransaction(final String transactionId,
+            final Collection<String> accountsFilingIds, final Class<T> type) {
+        if (transactionId == null || accountsFilingIds.isEmpty()) {
+            return List.of();
         }
+        return accountsFilingRepository.findByTransactionIdAndAccountsFilingIdInOrderByAccountsFilingIdAsc(
+                transactionId, accountsFilingIds, type);
+    }
+
+    private EntryNotFoundException entryNotFoundForTransaction(final String transactionId,
+            final String accountsFilingId) {
+        final var message = String.format("Entry with accountFilingId: %s and transaction id: %s was not found",
+                accountsFilingId, transactionId);
+        logger.error(message);
+        return new EntryNotFoundException(message);
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package uk.gov.companieshouse.accounts.filing.service.accounts;
 
 import org.springframework.stereotype.Component;
-import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
 import uk.gov.companieshouse.accounts.filing.model.types.AccountsType;
 import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
@@ -25,7 +25,7 @@ public class AccountsFilingValidator {
      * @return ValidationStatusResponse - Contains the validation status of the
      *         accounts filing entry
      */
-    public ValidationStatusResponse validateAccountsFilingEntry(final AccountsFilingEntry accountsFilingEntry) {
+    public ValidationStatusResponse validateAccountsFilingEntry(final FilingDetailsProjection accountsFilingEntry) {
         final ValidationStatusResponse validationStatusResponse = new ValidationStatusResponse();
         final List<ValidationStatusError> validationStatusErrors = new ArrayList<>();
 
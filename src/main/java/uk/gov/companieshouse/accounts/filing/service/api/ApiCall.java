@@ -0,0 +1,16 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.ApiResponse;
+
+/**
+ * A single request to an internal API, usually the {@code execute} method of an SDK request.
+ *
+ * @param <T> the type of the response data
+ */
+@FunctionalInterface
+public interface ApiCall<T> {
+
+    ApiResponse<T> execute() throws ApiErrorResponseException, URIValidationException;
+}
@@ -1,6 +1,11 @@
 package uk.gov.companieshouse.accounts.filing.service.api;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
 import uk.gov.companieshouse.api.ApiClient;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
@@ -8,11 +13,38 @@ import uk.gov.companieshouse.sdk.manager.ApiSdkManager;
 @Component
 public class ApiClientService {
 
+    private final InternalApiClient internalApiClient;
+
+    private final InternalApiClientFactory internalApiClientFactory;
+
+    @Autowired
+    public ApiClientService(final InternalApiClient internalApiClient,
+            final InternalApiClientFactory internalApiClientFactory) {
+        this.internalApiClient = internalApiClient;
+        this.internalApiClientFactory = internalApiClientFactory;
+    }
+
     public ApiClient getApiKeyAuthenticatedClient() {
         return ApiSdkManager.getSDK();
     }
 
+    /**
+     * Returns a client for calls to internal APIs. Inside a request that carries an
+     * {@value Constants#ERIC_REQUEST_ID_KEY} header, the client sends the same request id on to
+     * the internal API. Otherwise the shared internal API client is returned. Either way the
+     * calls reuse the connections in the shared internal API connection pool.
+     *
+     * @return the internal API client
+     */
     public InternalApiClient getInternalApiClient() {
-        return ApiSdkManager.getInternalSDK();
+        final String requestId = requestId();
+        return requestId == null ? internalApiClient : internalApiClientFactory.create(requestId);
+    }
+
+    private static String requestId() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(Constants.ERIC_REQUEST_ID_KEY);
+        }
+        return null;
     }
 }
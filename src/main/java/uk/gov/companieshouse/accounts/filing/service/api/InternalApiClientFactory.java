@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.api.client.http.HttpTransport;
+
+import uk.gov.companieshouse.api.InternalApiClient;
+
+/**
+ * Creates internal API clients. A client holds no connections of its own: every client sends its
+ * requests through the shared internal API transport and reuses the connections in its pool, so
+ * creating one per request costs only the client objects.
+ */
+@Component
+public class InternalApiClientFactory {
+
+    private final String apiKey;
+
+    private final String internalApiBasePath;
+
+    private final HttpTransport httpTransport;
+
+    private final Duration connectTimeout;
+
+    private final Duration readTimeout;
+
+    @Autowired
+    public InternalApiClientFactory(
+            @Value("${internal.api.key}") final String apiKey,
+            @Value("${internal.api.base.path}") final String internalApiBasePath,
+            final HttpTransport internalApiHttpTransport,
+            @Value("${internal.api.http.connect-timeout}") final Duration connectTimeout,
+            @Value("${internal.api.http.read-timeout}") final Duration readTimeout) {
+        this.apiKey = apiKey;
+        this.internalApiBasePath = internalApiBasePath;
+        this.httpTransport = internalApiHttpTransport;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Creates a client that sends the given request id on each of its requests.
+     *
+     * @param requestId - the request id to send, or null to send none
+     * @return the internal API client
+     */
+    public InternalApiClient create(final String requestId) {
+        final PooledApiKeyHttpClient httpClient = new PooledApiKeyHttpClient(apiKey, httpTransport, connectTimeout,
+                readTimeout);
+        if (requestId != null) {
+            httpClient.setRequestId(requestId);
+        }
+        final InternalApiClient internalApiClient = new InternalApiClient(httpClient);
+
+        internalApiClient.setBasePath(internalApiBasePath);
+        internalApiClient.setInternalBasePath(internalApiBasePath);
+
+        return internalApiClient;
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import java.util.function.Predicate;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+
+/**
+ * Decides which exceptions from an internal API call count as failures for its circuit breaker.
+ * Server errors and I/O problems do. Client errors such as a 404 and invalid request URIs are
+ * ordinary answers from a healthy API, and a full bulkhead says nothing about the API itself.
+ */
+public class InternalApiFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(final Throwable throwable) {
+        if (throwable instanceof ApiErrorResponseException apiErrorResponseException) {
+            return apiErrorResponseException.getStatusCode() >= 500;
+        }
+        return !(throwable instanceof URIValidationException || throwable instanceof BulkheadFullException);
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.ApiResponse;
+
+/**
+ * Records the calls made to each internal API. A timer with a histogram records how long each
+ * call took and how it ended, and a long task timer counts the calls still in flight. Gauges
+ * report the connections in the pool the calls share.
+ */
+@Component
+public class InternalApiMetrics {
+
+    public static final String REQUESTS = "internal.api.requests";
+    public static final String ACTIVE_REQUESTS = "internal.api.requests.active";
+    public static final String POOL_CONNECTIONS = "internal.api.pool.connections";
+    public static final String POOL_PENDING = "internal.api.pool.pending";
+    public static final String POOL_MAX = "internal.api.pool.max";
+
+    static final String OUTCOME_SUCCESS = "SUCCESS";
+    static final String OUTCOME_CLIENT_ERROR = "CLIENT_ERROR";
+    static final String OUTCOME_SERVER_ERROR = "SERVER_ERROR";
+    static final String OUTCOME_INVALID_URI = "INVALID_URI";
+    static final String OUTCOME_UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public InternalApiMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Reports the connections of the pool: those leased to a call and those idle and available
+     * for reuse, the calls waiting for a connection, and the most connections the pool opens.
+     *
+     * @param pool - the connection pool shared by the internal API clients
+     */
+    public void monitorPool(final ConnPoolControl<HttpRoute> pool) {
+        Gauge.builder(POOL_CONNECTIONS, pool, p -> p.getTotalStats().getLeased())
+                .description("Connections to internal APIs in use by a request")
+                .tag("state", "leased")
+                .register(meterRegistry);
+        Gauge.builder(POOL_CONNECTIONS, pool, p -> p.getTotalStats().getAvailable())
+                .description("Idle connections to internal APIs kept for reuse")
+                .tag("state", "available")
+                .register(meterRegistry);
+        Gauge.builder(POOL_PENDING, pool, p -> p.getTotalStats().getPending())
+                .description("Requests to internal APIs waiting for a connection")
+                .register(meterRegistry);
+        Gauge.builder(POOL_MAX, pool, p -> p.getTotalStats().getMax())
+                .description("Most connections to internal APIs kept open at once")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call, timing it and counting it as active against the named API until it returns
+     * or throws.
+     *
+     * @param api - name of the internal API, used as the {@code api} tag
+     * @param call - the request to run
+     * @return the response of the call
+     */
+    public <T> ApiResponse<T> track(final String api, final ApiCall<T> call)
+            throws ApiErrorResponseException, URIValidationException {
+        final LongTaskTimer.Sample activeSample = LongTaskTimer.builder(ACTIVE_REQUESTS)
+                .description("Requests to internal APIs that have not yet completed")
+                .tag("api", api)
+                .register(meterRegistry)
+                .start();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_UNKNOWN;
+        try {
+            final ApiResponse<T> response = call.execute();
+            outcome = outcome(response.getStatusCode());
+            return response;
+        } catch (final ApiErrorResponseException e) {
+            outcome = outcome(e.getStatusCode());
+            throw e;
+        } catch (final URIValidationException e) {
+            outcome = OUTCOME_INVALID_URI;
+            throw e;
+        } finally {
+            activeSample.stop();
+            sample.stop(Timer.builder(REQUESTS)
+                    .description("Requests to internal APIs")
+                    .tag("api", api)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String outcome(final int statusCode) {
+        if (statusCode >= 500) {
+            return OUTCOME_SERVER_ERROR;
+        }
+        if (statusCode >= 400) {
+            return OUTCOME_CLIENT_ERROR;
+        }
+        return statusCode >= 200 ? OUTCOME_SUCCESS : OUTCOME_UNKNOWN;
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceException;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.ApiResponse;
+
+/**
+ * Runs internal API calls behind a circuit breaker, a time limiter and a bulkhead for each API.
+ * The circuit breaker opens when an API keeps failing or answering slowly, the time limiter stops
+ * waiting for a call that takes too long, and the bulkhead limits how many calls can be waiting on
+ * one API at a time. Calls any of them rejects fail with an {@link ExternalServiceException}.
+ *
+ * <p>To be timed out, a call runs on the request executor with the attributes of the request that
+ * made it. A call that times out is interrupted, which closes its connection.
+ */
+@Component
+public class InternalApiResilience {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    private final ExecutorService requestExecutor;
+
+    @Autowired
+    public InternalApiResilience(final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry,
+            final TimeLimiterRegistry timeLimiterRegistry,
+            @Qualifier("requestExecutor") final ExecutorService requestExecutor) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * @param api - name of the internal API, which names its circuit breaker, time limiter and bulkhead
+     * @param call - the request to run
+     * @return the response of the call
+     * @throws ExternalServiceException when the circuit breaker is open, the call times out or the
+     *          bulkhead is full
+     */
+    public <T> ApiResponse<T> call(final String api, final ApiCall<T> call)
+            throws ApiErrorResponseException, URIValidationException {
+        final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(api);
+        final TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(api);
+        final Bulkhead bulkhead = bulkheadRegistry.bulkhead(api);
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final Callable<ApiResponse<T>> boundedCall = Bulkhead.decorateCallable(bulkhead, call::execute);
+        final Callable<ApiResponse<T>> guardedCall = CircuitBreaker.decorateCallable(circuitBreaker,
+                TimeLimiter.decorateFutureSupplier(timeLimiter,
+                        () -> requestExecutor.submit(() -> callFor(requestAttributes, boundedCall))));
+
+        try {
+            return guardedCall.call();
+        } catch (final CallNotPermittedException e) {
+            throw new ExternalServiceException(String.format("Circuit breaker for %s api is open", api), e);
+        } catch (final TimeoutException e) {
+            throw new ExternalServiceException(String.format("Call to %s api timed out", api), e);
+        } catch (final BulkheadFullException e) {
+            throw new ExternalServiceException(String.format("Too many concurrent calls to %s api", api), e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalServiceException(e);
+        } catch (final ApiErrorResponseException | URIValidationException | RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new ExternalServiceException(e);
+        }
+    }
+
+    private static <T> T callFor(final RequestAttributes requestAttributes, final Callable<T> call) throws Exception {
+        final RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return call.call();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import java.time.Duration;
+
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+
+import uk.gov.companieshouse.api.http.ApiKeyHttpClient;
+
+/**
+ * An API key client that sends its requests through the shared internal API transport, with the
+ * configured connect and read timeouts. Authentication and the request id header are still set by
+ * {@link ApiKeyHttpClient}.
+ */
+class PooledApiKeyHttpClient extends ApiKeyHttpClient {
+
+    private final HttpTransport httpTransport;
+
+    private final int connectTimeoutMillis;
+
+    private final int readTimeoutMillis;
+
+    PooledApiKeyHttpClient(final String apiKey, final HttpTransport httpTransport, final Duration connectTimeout,
+            final Duration readTimeout) {
+        super(apiKey);
+        this.httpTransport = httpTransport;
+        this.connectTimeoutMillis = Math.toIntExact(connectTimeout.toMillis());
+        this.readTimeoutMillis = Math.toIntExact(readTimeout.toMillis());
+    }
+
+    @Override
+    public HttpRequestFactory getRequestFactory() {
+        final HttpRequestInitializer initializer = super.getRequestFactory().getInitializer();
+        return httpTransport.createRequestFactory(request -> {
+            if (initializer != null) {
+                initializer.initialize(request);
+            }
+            request.setConnectTimeout(connectTimeoutMillis);
+            request.setReadTimeout(readTimeoutMillis);
+        });
+    }
+}
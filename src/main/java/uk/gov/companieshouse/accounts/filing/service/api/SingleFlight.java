@@ -0,0 +1,81 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent identical internal API calls. The first caller for a key makes the call,
+ * and callers that ask for the same key while it is in flight wait for it and share its result
+ * or exception instead of making their own. Nothing is kept once the call returns, so a later
+ * caller always makes a new call. Each caller is counted, tagged with whether it was coalesced.
+ */
+@Component
+public class SingleFlight {
+
+    public static final String CALLS = "internal.api.calls";
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SingleFlight(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param api - name of the internal API, used as the {@code api} tag
+     * @param key - identifies the call within the API, such as the id of the resource requested
+     * @param call - the request to run; it may only throw unchecked exceptions
+     * @return the result of this call, or of the identical call already in flight
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T call(final String api, final String key, final Supplier<T> call) {
+        final String flightKey = api + ':' + key;
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counter(api, true).increment();
+            try {
+                return (T) existing.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        counter(api, false).increment();
+        try {
+            final T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (final RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Counter counter(final String api, final boolean coalesced) {
+        return Counter.builder(CALLS)
+                .description("Internal API calls asked for, and whether they joined an identical call in flight")
+                .tag("api", api)
+                .tag("coalesced", String.valueOf(coalesced))
+                .register(meterRegistry);
+    }
+}
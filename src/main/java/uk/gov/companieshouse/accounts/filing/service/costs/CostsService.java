@@ -1,11 +1,16 @@
 package uk.gov.companieshouse.accounts.filing.service.costs;
 
-import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.CostsProjection;
 import uk.gov.companieshouse.api.model.payment.Cost;
 
 import java.util.List;
 
 public interface CostsService {
 
-    List<Cost> calculateCosts(AccountsFilingEntry accountsFilingEntry);
+    List<Cost> calculateCosts(CostsProjection accountsFilingEntry);
+
+    /**
+     * @return the tag of the configuration the costs are built from, which changes when a fee does
+     */
+    String configurationTag();
 }
@@ -7,7 +7,7 @@ import java.util.Optional;
 
 public interface AccountsValidationService {
     
-    public Optional<AccountsValidatorStatusApi> validationStatusResult(String fileId);
+    public Optional<AccountsValidatorStatusApi> validationStatusResult(AccountsFilingEntry accountsFilingEntry, String fileId);
 
     public void saveFileValidationResult(AccountsFilingEntry accountsFilingEntry, AccountsValidatorStatusApi accountStatus);
 
@@ -12,6 +12,9 @@ import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.accounts.filing.model.types.AccountsType;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiResilience;
+import uk.gov.companieshouse.accounts.filing.service.api.SingleFlight;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
 import uk.gov.companieshouse.accounts.filing.utils.mapping.ImmutableConverter;
 
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
@@ -19,7 +22,9 @@ import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceExc
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.ResponseException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.FileValidationFields;
 import uk.gov.companieshouse.accounts.filing.repository.AccountsFilingRepository;
+import uk.gov.companieshouse.accounts.filing.repository.VersionConflictRetry;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorDataApi;
 import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
@@ -32,6 +37,10 @@ public class AccountsValidationServiceImpl implements AccountsValidationService
     private final Logger logger;
     private final AccountsFilingRepository requestFilingRepository;
     private final AccountsValidatorAPI accountsValidatorAPI;
+    private final InternalApiResilience internalApiResilience;
+    private final SingleFlight singleFlight;
+    private final VersionConflictRetry versionConflictRetry;
+    private static final String SAVE_FILE_VALIDATION_RESULT = "save_file_validation_result";
     private static final Map<PackageTypeApi, String> accountsFilingTypeMap = Map.of(
             PackageTypeApi.UKSEF, AccountsType.GROUP.getStemCode(),
             PackageTypeApi.GROUP_PACKAGE_401, AccountsType.GROUP.getStemCode(),
@@ -44,17 +53,44 @@ public class AccountsValidationServiceImpl implements AccountsValidationService
     public AccountsValidationServiceImpl(
             Logger logger,
             AccountsFilingRepository requestFilingRepository,
-            AccountsValidatorAPI accountsValidatorAPI) {
+            AccountsValidatorAPI accountsValidatorAPI,
+            InternalApiResilience internalApiResilience,
+            SingleFlight singleFlight,
+            VersionConflictRetry versionConflictRetry) {
         this.logger = logger;
         this.requestFilingRepository = requestFilingRepository;
         this.accountsValidatorAPI = accountsValidatorAPI;
+        this.internalApiResilience = internalApiResilience;
+        this.singleFlight = singleFlight;
+        this.versionConflictRetry = versionConflictRetry;
     }
 
+    /**
+     * Returns the account validator result for the file. A finished result that has already been
+     * stored on the filing entry is returned as is, without calling the account validator again.
+     * Concurrent lookups of the same file share one account validator call.
+     *
+     * @param accountsFilingEntry - the filing entry the file belongs to
+     * @param fileId - id of the file
+     * @return the validation result, or empty when the account validator has no record of the file
+     */
     @Override
-    public Optional<AccountsValidatorStatusApi> validationStatusResult(final String fileId) throws NullPointerException {
+    public Optional<AccountsValidatorStatusApi> validationStatusResult(final AccountsFilingEntry accountsFilingEntry,
+            final String fileId) throws NullPointerException {
 
+        final AccountsValidatorStatusApi storedResult = accountsFilingEntry.getValidationResult();
+        if (storedResult != null && fileId.equals(storedResult.fileId())) {
+            logger.debug(String.format("Returning stored validation result for file id: %s", fileId));
+            return Optional.of(storedResult);
+        }
+
+        return singleFlight.call(Constants.ACCOUNTS_VALIDATOR_API, fileId, () -> fetchValidationStatus(fileId));
+    }
+
+    private Optional<AccountsValidatorStatusApi> fetchValidationStatus(final String fileId) {
         try {
-            ApiResponse<AccountsValidatorStatusApi> response = accountsValidatorAPI.getValidationCheck(fileId);
+            ApiResponse<AccountsValidatorStatusApi> response = internalApiResilience.call(
+                    Constants.ACCOUNTS_VALIDATOR_API, () -> accountsValidatorAPI.getValidationCheck(fileId));
             return Optional.ofNullable(response.getData());
         } catch (ApiErrorResponseException e) {
             int statusCode = e.getStatusCode();
@@ -70,40 +106,79 @@ public class AccountsValidationServiceImpl implements AccountsValidationService
         }
     }
 
+    /**
+     * Writes the validation result to the stored entry. If the entry was updated since it was read, for
+     * example by a package type change, the result is applied again to the entry as it now is, so
+     * the accounts type and made up date are derived from the current package type.
+     *
+     * @param accountsFilingEntry - the filing entry as it was read
+     * @param accountStatus - the validation result of the file
+     */
     @Override
     public void saveFileValidationResult(AccountsFilingEntry accountsFilingEntry,
             AccountsValidatorStatusApi accountStatus) {
+        // A failed conditional update evicts the cached entry, so the reload reads the stored entry
+        versionConflictRetry.update(SAVE_FILE_VALIDATION_RESULT, accountsFilingEntry,
+                entry -> applyFileValidationResult(entry, accountStatus),
+                () -> getFilingEntry(accountsFilingEntry.getAccountsFilingId()));
+    }
+
+    /**
+     * Derives the new validation fields from the entry without changing it, so the entry read
+     * through the cache is never left holding values that were not saved.
+     *
+     * @return true if the entry was written or is unchanged, false if the stored entry is missing
+     *         or has a newer version
+     */
+    private boolean applyFileValidationResult(AccountsFilingEntry accountsFilingEntry,
+            AccountsValidatorStatusApi accountStatus) {
         String fileId = accountStatus.fileId();
-        AccountsValidatorDataApi data = accountStatus.resultApi().data();
-        if (data != null) {
-            PackageTypeApi packageType = accountsFilingEntry.getPackageType();
-            setFilingEntryAccountsType(accountsFilingEntry, data, packageType);
-            if(PackageTypeApi.OVERSEAS != packageType) {
-                accountsFilingEntry.setMadeUpDate(data.balanceSheetDate());
-            }
+        final FileValidationFields fields = fileValidationFields(accountsFilingEntry, accountStatus);
+        logger.debug(String.format("Account MadeUp date is: %s", fields.madeUpDate()));
+
+        if (FileValidationFields.of(accountsFilingEntry).equals(fields)) {
+            logger.debug(String.format("Account filing id: %s is unchanged for file id: %s, skipping save",
+                    accountsFilingEntry.getAccountsFilingId(), fileId));
+            return true;
         }
-        logger.debug(String.format("Account MadeUp date is: %s", accountsFilingEntry.getMadeUpDate()));
 
+        if (!requestFilingRepository.updateFileValidationResult(accountsFilingEntry.getAccountsFilingId(),
+                accountsFilingEntry.getVersion(), fields)) {
+            return false;
+        }
         var message = String.format(
                 "Account filing id: %s has been updated to include file id: %s",
                 accountsFilingEntry.getAccountsFilingId(), fileId);
-
-        accountsFilingEntry.setFileId(fileId);
-
-        requestFilingRepository.save(accountsFilingEntry);
         logger.debugContext(accountsFilingEntry.getAccountsFilingId(), message, new HashMap<>());
+        return true;
+    }
+
+    private FileValidationFields fileValidationFields(AccountsFilingEntry accountsFilingEntry,
+            AccountsValidatorStatusApi accountStatus) {
+        String accountsType = accountsFilingEntry.getAccountsType();
+        String madeUpDate = accountsFilingEntry.getMadeUpDate();
+        AccountsValidatorDataApi data = accountStatus.resultApi().data();
+        if (data != null) {
+            PackageTypeApi packageType = accountsFilingEntry.getPackageType();
+            accountsType = filingEntryAccountsType(data, packageType);
+            if(PackageTypeApi.OVERSEAS != packageType) {
+                madeUpDate = data.balanceSheetDate();
+            }
+        }
+        final AccountsValidatorStatusApi validationResult = ValidatorStatuses.isTerminal(accountStatus)
+                ? accountStatus
+                : accountsFilingEntry.getValidationResult();
+        return new FileValidationFields(accountStatus.fileId(), accountsType, madeUpDate, validationResult);
     }
 
-    private AccountsFilingEntry setFilingEntryAccountsType(AccountsFilingEntry accountsFilingEntry, AccountsValidatorDataApi data, PackageTypeApi packageType){
+    private String filingEntryAccountsType(AccountsValidatorDataApi data, PackageTypeApi packageType){
         String accountsFilingType = accountsFilingTypeMap.get(packageType);
         if (accountsFilingType != null) {
-            accountsFilingEntry.setAccountsType(accountsFilingType);
             logger.debug(String.format("Accounts filing type: %s has been updated to zip package type: %s", accountsFilingType, packageType));
-        } else {
-            accountsFilingEntry.setAccountsType(data.accountType());
-            logger.debug(String.format("Accounts filing type: %s  is mapped by validator to zip package type: %s", data.accountType(), packageType));
+            return accountsFilingType;
         }
-        return accountsFilingEntry;
+        logger.debug(String.format("Accounts filing type: %s  is mapped by validator to zip package type: %s", data.accountType(), packageType));
+        return data.accountType();
     }
 
     @Override
@@ -113,11 +188,15 @@ public class AccountsValidationServiceImpl implements AccountsValidationService
             return filingEntry.get();
         }
 
+        throw documentNotFound(accountsFilingId);
+    }
+
+    private EntryNotFoundException documentNotFound(String accountsFilingId) {
         var message = "document not found";
         logger.errorContext(accountsFilingId, message, null, ImmutableConverter.toMutableMap(Map.of(
                 "expected", "accountsFilingId",
                 "actual", accountsFilingId)));
-        throw new EntryNotFoundException(message);
+        return new EntryNotFoundException(message);
     }
 
     private RuntimeException validationStatusResultThrowableExceptions(final String fileId, final HttpStatus status) {
@@ -3,6 +3,8 @@ package uk.gov.companieshouse.accounts.filing.service.file.validation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiMetrics;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.accountvalidator.request.PrivateAccountsValidatorGet;
@@ -15,17 +17,21 @@ class AccountsValidatorAPI {
 
     private final InternalApiClient internalApiClient;
 
+    private final InternalApiMetrics internalApiMetrics;
+
     @Autowired
     public AccountsValidatorAPI(
-            final InternalApiClient internalApiClient) {
+            final InternalApiClient internalApiClient,
+            final InternalApiMetrics internalApiMetrics) {
         this.internalApiClient = internalApiClient;
+        this.internalApiMetrics = internalApiMetrics;
     }
 
     public ApiResponse<AccountsValidatorStatusApi> getValidationCheck(final String fileId) throws ApiErrorResponseException, URIValidationException {
         final PrivateAccountsValidatorGet get = internalApiClient
                 .privateAccountsValidatorResourceHandler()
                 .getAccountsValidator(fileId);
-        return get.execute();
+        return internalApiMetrics.track(Constants.ACCOUNTS_VALIDATOR_API, get::execute);
     }
 
 }
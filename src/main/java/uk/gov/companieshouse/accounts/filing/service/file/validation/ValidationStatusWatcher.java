@@ -0,0 +1,197 @@
+package uk.gov.companieshouse.accounts.filing.service.file.validation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
+
+/**
+ * Waits for the account validator to finish with a file on behalf of long-poll requests. All
+ * requests waiting on the same file share one polling loop, which asks the account validator for
+ * the status with a growing delay between calls. A waiter is answered as soon as the result is
+ * final, or with the latest result once its deadline passes. No thread is held while waiting:
+ * the scheduler only hands each poll to the request executor. Loops are keyed by filing entry and
+ * file, so a waiter is never answered from a loop polling on behalf of another entry. When a poll
+ * fails, or can not be run, the loop stops and all of its waiters fail with the cause.
+ */
+@Component
+public class ValidationStatusWatcher {
+
+    private final AccountsValidationService accountsValidationService;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor requestExecutor;
+
+    private final long timeoutNanos;
+
+    private final long initialBackoffNanos;
+
+    private final long maxBackoffNanos;
+
+    private final Map<WatchKey, Watch> watches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ValidationStatusWatcher(final AccountsValidationService accountsValidationService,
+            @Qualifier("validationStatusScheduler") final ScheduledExecutorService scheduler,
+            @Qualifier("requestExecutor") final Executor requestExecutor,
+            @Value("${file-status.long-poll.timeout}") final Duration timeout,
+            @Value("${file-status.long-poll.initial-backoff}") final Duration initialBackoff,
+            @Value("${file-status.long-poll.max-backoff}") final Duration maxBackoff) {
+        this.accountsValidationService = accountsValidationService;
+        this.scheduler = scheduler;
+        this.requestExecutor = requestExecutor;
+        this.timeoutNanos = timeout.toNanos();
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    /**
+     * @return how long a waiter is held before it is answered with the latest result
+     */
+    public Duration getTimeout() {
+        return Duration.ofNanos(timeoutNanos);
+    }
+
+    /**
+     * @param accountsFilingEntry - the filing entry the file belongs to
+     * @param fileId - id of the file
+     * @return the final result, or the latest result when the deadline passed first. Empty
+     *         when the account validator has no record of the file at that point.
+     */
+    public CompletableFuture<Optional<AccountsValidatorStatusApi>> await(final AccountsFilingEntry accountsFilingEntry,
+            final String fileId) {
+        final Waiter waiter = new Waiter(System.nanoTime() + timeoutNanos);
+        final Watch created = new Watch(accountsFilingEntry, fileId);
+        final Watch watch = watches.compute(created.key, (key, current) -> {
+            final Watch joined = current == null ? created : current;
+            joined.waiters.add(waiter);
+            return joined;
+        });
+        if (watch == created) {
+            execute(created);
+        }
+        return waiter.result;
+    }
+
+    private void execute(final Watch watch) {
+        try {
+            requestExecutor.execute(() -> poll(watch));
+        } catch (final RejectedExecutionException e) {
+            fail(watch, e);
+        }
+    }
+
+    private void poll(final Watch watch) {
+        try {
+            pollOnce(watch);
+        } catch (final Throwable e) {
+            fail(watch, e);
+        }
+    }
+
+    private void pollOnce(final Watch watch) {
+        final Optional<AccountsValidatorStatusApi> result =
+                accountsValidationService.validationStatusResult(watch.accountsFilingEntry, watch.key.fileId());
+
+        final boolean finished = result.map(ValidatorStatuses::isTerminal).orElse(false);
+        final long now = System.nanoTime();
+        final List<Waiter> answered = new ArrayList<>();
+        final long[] nextDeadline = { Long.MAX_VALUE };
+        final Watch remaining = watches.computeIfPresent(watch.key, (key, current) -> {
+            current.waiters.removeIf(waiter -> {
+                final boolean answer = finished || waiter.deadline - now <= 0;
+                if (answer) {
+                    answered.add(waiter);
+                } else {
+                    nextDeadline[0] = Math.min(nextDeadline[0], waiter.deadline - now);
+                }
+                return answer;
+            });
+            return current.waiters.isEmpty() ? null : current;
+        });
+
+        for (final Waiter waiter : answered) {
+            waiter.result.complete(result);
+        }
+        if (remaining != null) {
+            scheduleNextPoll(remaining, nextDeadline[0]);
+        }
+    }
+
+    /**
+     * Stops the loop and fails every waiter still on it. Does nothing when the loop has already
+     * stopped and another one has taken its place.
+     */
+    private void fail(final Watch watch, final Throwable cause) {
+        final List<Waiter> failed = new ArrayList<>();
+        watches.computeIfPresent(watch.key, (key, current) -> {
+            if (current != watch) {
+                return current;
+            }
+            failed.addAll(current.waiters);
+            current.waiters.clear();
+            return null;
+        });
+        for (final Waiter waiter : failed) {
+            waiter.result.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Waits the next backoff step, or less if the earliest deadline comes first. Waiters that join
+     * later have later deadlines.
+     */
+    private void scheduleNextPoll(final Watch watch, final long untilNextDeadline) {
+        watch.backoffNanos = watch.backoffNanos == 0
+                ? initialBackoffNanos
+                : Math.min(watch.backoffNanos * 2, maxBackoffNanos);
+        final long delay = Math.min(watch.backoffNanos, untilNextDeadline);
+        scheduler.schedule(() -> execute(watch), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private record WatchKey(String accountsFilingId, String fileId) {
+    }
+
+    /**
+     * The polling loop of one file of a filing entry. Its waiters are only changed inside a compute on the watches
+     * map, so a waiter can not join a loop that has already stopped.
+     */
+    private static final class Watch {
+
+        private final AccountsFilingEntry accountsFilingEntry;
+
+        private final WatchKey key;
+
+        private final List<Waiter> waiters = new ArrayList<>();
+
+        private long backoffNanos;
+
+        private Watch(final AccountsFilingEntry accountsFilingEntry, final String fileId) {
+            this.accountsFilingEntry = accountsFilingEntry;
+            this.key = new WatchKey(accountsFilingEntry.getAccountsFilingId(), fileId);
+        }
+    }
+
+    private record Waiter(long deadline, CompletableFuture<Optional<AccountsValidatorStatusApi>> result) {
+
+        private Waiter(final long deadline) {
+            this(deadline, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.companieshouse.accounts.filing.service.file.validation;
+
+import java.util.Locale;
+import java.util.Set;
+
+import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
+
+/**
+ * Statuses the account validator reports for a file. Once a file reaches a terminal status the
+ * account validator is done with it and its result no longer changes, so the result can be
+ * stored and the file is not polled again.
+ */
+final class ValidatorStatuses {
+
+    static final String COMPLETE = "complete";
+    static final String ERROR = "error";
+    static final String FAILED = "failed";
+
+    private static final Set<String> TERMINAL = Set.of(COMPLETE, ERROR, FAILED);
+
+    private ValidatorStatuses() {
+    }
+
+    /**
+     * @param accountStatus - result reported by the account validator
+     * @return true if the account validator has finished with the file
+     */
+    static boolean isTerminal(final AccountsValidatorStatusApi accountStatus) {
+        final String status = accountStatus.status();
+        return status != null && TERMINAL.contains(status.toLowerCase(Locale.ROOT));
+    }
+}
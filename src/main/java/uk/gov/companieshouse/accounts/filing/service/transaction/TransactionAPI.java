@@ -4,6 +4,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import uk.gov.companieshouse.accounts.filing.service.api.ApiClientService;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiMetrics;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.handler.privatetransaction.request.PrivateTransactionGet;
@@ -16,18 +18,21 @@ class TransactionAPI {
 
     private final ApiClientService apiClientService;
 
+    private final InternalApiMetrics internalApiMetrics;
+
     private static final String PRIVATE_TRANSACTION_URL = "/private/transactions/";
 
     @Autowired
-    public TransactionAPI(ApiClientService apiClientService) {
+    public TransactionAPI(ApiClientService apiClientService, InternalApiMetrics internalApiMetrics) {
         this.apiClientService = apiClientService;
+        this.internalApiMetrics = internalApiMetrics;
     }
 
     public ApiResponse<Transaction> get(final String transactionId)
             throws ApiErrorResponseException, URIValidationException {
         String path = PRIVATE_TRANSACTION_URL + transactionId;
         PrivateTransactionGet get = apiClientService.getInternalApiClient().privateTransaction().get(path);
-        return get.execute();
+        return internalApiMetrics.track(Constants.TRANSACTIONS_API, get::execute);
     }
 
     public ApiResponse<Void> patch(final Transaction transaction)
@@ -36,6 +41,6 @@ class TransactionAPI {
         PrivateTransactionPatch patch = apiClientService.getInternalApiClient()
                 .privateTransaction()
                 .patch(path, transaction);
-        return patch.execute();
+        return internalApiMetrics.track(Constants.TRANSACTIONS_API, patch::execute);
     }
 }
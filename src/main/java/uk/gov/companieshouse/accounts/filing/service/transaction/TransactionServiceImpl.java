@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.ResponseException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiResilience;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
 import uk.gov.companieshouse.accounts.filing.utils.mapping.ImmutableConverter;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
@@ -29,17 +31,22 @@ public class TransactionServiceImpl implements TransactionService {
 
     private final Logger logger;
 
+    private final InternalApiResilience internalApiResilience;
+
     @Autowired
-    public TransactionServiceImpl(final TransactionAPI transactionAPI, final Logger logger) {
+    public TransactionServiceImpl(final TransactionAPI transactionAPI, final Logger logger,
+            final InternalApiResilience internalApiResilience) {
         this.logger = logger;
         this.transactionAPI = transactionAPI;
+        this.internalApiResilience = internalApiResilience;
     }
 
     @Override
     public Optional<Transaction> getTransaction(final String transactionId) throws NullPointerException {
 
         try {
-            final ApiResponse<Transaction> response = transactionAPI.get(transactionId);
+            final ApiResponse<Transaction> response = internalApiResilience.call(Constants.TRANSACTIONS_API,
+                    () -> transactionAPI.get(transactionId));
             return Optional.ofNullable(response.getData());
         } catch (ApiErrorResponseException e) {
             int statusCode = e.getStatusCode();
@@ -61,7 +68,8 @@ public class TransactionServiceImpl implements TransactionService {
         final var message = "Unexpected response status when updating transaction.";
         final var externalIssueMessage = "External service issue blocked updating transaction.";
         try {
-            final ApiResponse<Void> response = transactionAPI.patch(transaction);
+            final ApiResponse<Void> response = internalApiResilience.call(Constants.TRANSACTIONS_API,
+                    () -> transactionAPI.patch(transaction));
             HttpStatus status = Objects.requireNonNull(HttpStatus.resolve(response.getStatusCode()));
 
             if (status != HttpStatus.NO_CONTENT) {
@@ -0,0 +1,164 @@
+package uk.gov.companieshouse.accounts.filing.template;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+import uk.gov.companieshouse.api.model.payment.Cost;
+
+/**
+ * The parts of the {@code /costs} and private {@code /filings} responses that only depend on the
+ * package type and configuration, built once at startup. Per filing values such as the company
+ * name, made up date and file link are filled in by the callers.
+ */
+@Component
+public class PackageTypeTemplates {
+
+    public static final String CIC_RESOURCE_KIND = "cic-package-accounts";
+
+    public static final String CIC_PRODUCT_TYPE = "cic-package-accounts";
+
+    public static final String OVERSEAS_RESOURCE_KIND = "overseas-package-accounts";
+
+    public static final String OVERSEAS_PRODUCT_TYPE = "overseas-package-accounts";
+
+    private static final List<String> PAYMENT_METHODS = List.of("credit-card");
+
+    private static final List<String> PAYMENT_CLASSES = List.of("data-maintenance");
+
+    private static final String COST_DESCRIPTION = "Payment for %s Package Accounts for ";
+
+    private static final String COST_DESCRIPTION_ID = "description-identifier";
+
+    private static final Map<String, String> COST_DESCRIPTION_VALUES = Map.of("key", "value");
+
+    private static final String COST_KIND = "payment-session#payment-session";
+
+    private static final String OVERSEAS_FILING_DESCRIPTION = "Package accounts with package type overseas";
+
+    private final Map<PackageTypeApi, PackageTypeTemplate> templates = new EnumMap<>(PackageTypeApi.class);
+
+    private final String fileLinkPrefix;
+
+    private final String configurationTag;
+
+    @Autowired
+    public PackageTypeTemplates(@Value("${fee.cic.accounts}") final String cicFee,
+            @Value("${fee.overseas.accounts}") final String overseasFee,
+            @Value("${file.scheme}") final String scheme,
+            @Value("${file.bucket}") final String bucket) {
+        for (final PackageTypeApi packageType : PackageTypeApi.values()) {
+            final CostTemplate cost = switch (packageType) {
+                case CIC -> new CostTemplate(packageType, cicFee, CIC_PRODUCT_TYPE, CIC_RESOURCE_KIND);
+                case OVERSEAS -> new CostTemplate(packageType, overseasFee, OVERSEAS_PRODUCT_TYPE,
+                        OVERSEAS_RESOURCE_KIND);
+                default -> null;
+            };
+            final String filingDescription = packageType == PackageTypeApi.OVERSEAS
+                    ? OVERSEAS_FILING_DESCRIPTION
+                    : null;
+            templates.put(packageType, new PackageTypeTemplate(cost, filingDescription, packageType.toString()));
+        }
+        this.fileLinkPrefix = scheme + bucket + "/";
+        this.configurationTag = digest(String.join("\n", cicFee, overseasFee, fileLinkPrefix,
+                String.valueOf(PAYMENT_METHODS), String.valueOf(PAYMENT_CLASSES), COST_DESCRIPTION,
+                COST_DESCRIPTION_ID, String.valueOf(COST_DESCRIPTION_VALUES), COST_KIND, OVERSEAS_FILING_DESCRIPTION,
+                CIC_PRODUCT_TYPE, CIC_RESOURCE_KIND, OVERSEAS_PRODUCT_TYPE, OVERSEAS_RESOURCE_KIND));
+    }
+
+    /**
+     * @param packageType - package type of the filing
+     * @return the template for the package type
+     */
+    public PackageTypeTemplate get(final PackageTypeApi packageType) {
+        return templates.get(packageType);
+    }
+
+    /**
+     * @param fileId - id of the accounts file
+     * @return the location of the accounts file
+     */
+    public String fileLink(final String fileId) {
+        return fileLinkPrefix + fileId;
+    }
+
+    /**
+     * @return a short hash of the fees, file location and fixed text the templates put in responses,
+     *          which changes when any of them does
+     */
+    public String configurationTag() {
+        return configurationTag;
+    }
+
+    private static String digest(final String content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param cost              - the payment for the package type, or null if it is free
+     * @param filingDescription - fixed filing description, or null to describe the filing by its
+     *                            made up date
+     * @param packageTypeName   - the package type as written in the filing data
+     */
+    public record PackageTypeTemplate(CostTemplate cost, String filingDescription, String packageTypeName) {
+    }
+
+    /**
+     * The payment for a package type. The payment method, class and description values lists are
+     * shared between costs and are not modifiable.
+     */
+    public static final class CostTemplate {
+
+        private final String fee;
+
+        private final String productType;
+
+        private final String resourceKind;
+
+        private final String descriptionPrefix;
+
+        private CostTemplate(final PackageTypeApi packageType, final String fee, final String productType,
+                final String resourceKind) {
+            this.fee = fee;
+            this.productType = productType;
+            this.resourceKind = resourceKind;
+            this.descriptionPrefix = String.format(COST_DESCRIPTION, packageType);
+        }
+
+        public String getFee() {
+            return fee;
+        }
+
+        /**
+         * @param companyName - name of the company filing the accounts
+         * @return a new cost for the company
+         */
+        public Cost newCost(final String companyName) {
+            final Cost cost = new Cost();
+            cost.setAvailablePaymentMethods(PAYMENT_METHODS);
+            cost.setClassOfPayment(PAYMENT_CLASSES);
+            cost.setDescription(descriptionPrefix + companyName);
+            cost.setDescriptionIdentifier(COST_DESCRIPTION_ID);
+            cost.setDescriptionValues(COST_DESCRIPTION_VALUES);
+            cost.setKind(COST_KIND);
+            cost.setProductType(productType);
+            cost.setResourceKind(resourceKind);
+            cost.setAmount(fee);
+            return cost;
+        }
+    }
+}
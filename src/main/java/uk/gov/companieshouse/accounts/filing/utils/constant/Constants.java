@@ -8,8 +8,9 @@ public final class Constants {
     public static final String TRANSACTION_ID_KEY = "transactionId";
     public static final String ACCOUNT_FILING_ID_KEY = "accountsFilingId";
     public static final String FILE_ID_KEY = "fileId";
-    public static final String TRANSACTION_ALLOWED_CHAR_PATTERN = "(^[0-9-]{20}$)";
-    public static final String ACCOUNTS_FILING_REGEX_PATTERN = "(^[a-f0-9]{24}$)";
-    public static final String FILE_ID_REGEX_PATTERN = "(^[a-z0-9-]{36}$)";
+    public static final String COMPANY_NUMBER_KEY = "companyNumber";
+    public static final String ACCOUNTS_FILING_CACHE = "accounts-filing-entries";
+    public static final String TRANSACTIONS_API = "transactions";
+    public static final String ACCOUNTS_VALIDATOR_API = "accounts-validator";
     
 }
\ No newline at end of file
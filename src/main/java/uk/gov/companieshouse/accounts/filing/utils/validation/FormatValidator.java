@@ -0,0 +1,122 @@
+package uk.gov.companieshouse.accounts.filing.utils.validation;
+
+/**
+ * Format checks for values on the request path. They scan the characters directly, so they are
+ * thread-safe, never throw and do not allocate.
+ */
+public final class FormatValidator {
+
+    private static final int UUID_LENGTH = 36;
+
+    private static final int TRANSACTION_ID_LENGTH = 20;
+
+    private static final int OBJECT_ID_LENGTH = 24;
+
+    private static final int COMPANY_NUMBER_LENGTH = 8;
+
+    private FormatValidator() {}
+
+    /**
+     * Checks for a UUID in its canonical 8-4-4-4-12 hexadecimal form, in lower case, as file ids
+     * are issued.
+     *
+     * @param value - value to check, may be null
+     * @return whether the value is a lower case UUID
+     */
+    public static boolean isLowerCaseUuid(final String value) {
+        if (value == null || value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final char c = value.charAt(i);
+            final boolean valid = (i == 8 || i == 13 || i == 18 || i == 23) ? c == '-' : isLowerCaseHexDigit(c);
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for a transaction id: 20 characters, each a digit or a dash.
+     *
+     * @param value - value to check, may be null
+     * @return whether the value is a transaction id
+     */
+    public static boolean isTransactionId(final String value) {
+        if (value == null || value.length() != TRANSACTION_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < TRANSACTION_ID_LENGTH; i++) {
+            final char c = value.charAt(i);
+            if (!isDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for a transaction id in its 000000-000000-000000 form.
+     *
+     * @param value - value to check, may be null
+     * @return whether the value is a transaction id in that form
+     */
+    public static boolean isDashedTransactionId(final String value) {
+        if (!isTransactionId(value)) {
+            return false;
+        }
+        for (int i = 0; i < TRANSACTION_ID_LENGTH; i++) {
+            if ((value.charAt(i) == '-') != (i == 6 || i == 13)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for a Mongo object id, 24 lower case hexadecimal characters, as accounts filing ids
+     * are issued.
+     *
+     * @param value - value to check, may be null
+     * @return whether the value is an object id
+     */
+    public static boolean isObjectId(final String value) {
+        if (value == null || value.length() != OBJECT_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < OBJECT_ID_LENGTH; i++) {
+            if (!isLowerCaseHexDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for a company number, 8 upper case letters or digits.
+     *
+     * @param value - value to check, may be null
+     * @return whether the value is a company number
+     */
+    public static boolean isCompanyNumber(final String value) {
+        if (value == null || value.length() != COMPANY_NUMBER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < COMPANY_NUMBER_LENGTH; i++) {
+            final char c = value.charAt(i);
+            if (!isDigit(c) && (c < 'A' || c > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLowerCaseHexDigit(final char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f');
+    }
+}
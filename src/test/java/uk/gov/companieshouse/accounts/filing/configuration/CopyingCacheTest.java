@@ -0,0 +1,77 @@
+package uk.gov.companieshouse.accounts.filing.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+
+class CopyingCacheTest {
+
+    private static final String KEY = "accountsFilingId";
+
+    private CopyingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CopyingCache(new ConcurrentMapCache("test"));
+    }
+
+    @Test
+    @DisplayName("Changing an entry after it is cached does not change the cached entry")
+    void testPutStoresCopy() {
+        var entry = new AccountsFilingEntry(KEY);
+        entry.setFileId("fileId");
+        cache.put(KEY, entry);
+
+        entry.setFileId("changed");
+
+        assertEquals("fileId", cache.get(KEY, AccountsFilingEntry.class).getFileId());
+    }
+
+    @Test
+    @DisplayName("Each read of a cached entry returns its own equal copy")
+    void testGetReturnsCopy() {
+        cache.put(KEY, new AccountsFilingEntry(KEY));
+
+        var first = (AccountsFilingEntry) cache.get(KEY).get();
+        var second = cache.get(KEY, AccountsFilingEntry.class);
+        first.setFileId("changed");
+
+        assertNotSame(first, second);
+        assertNull(second.getFileId());
+        assertNull(cache.get(KEY, AccountsFilingEntry.class).getFileId());
+    }
+
+    @Test
+    @DisplayName("Loaded entries are copied")
+    void testGetWithLoaderReturnsCopy() {
+        var loaded = new AccountsFilingEntry(KEY);
+
+        var result = cache.get(KEY, () -> loaded);
+
+        assertNotSame(loaded, result);
+        assertEquals(loaded, result);
+    }
+
+    @Test
+    @DisplayName("Other values are passed through")
+    void testOtherValuesNotCopied() {
+        var value = new Object();
+        cache.put(KEY, value);
+
+        assertSame(value, cache.get(KEY).get());
+    }
+
+    @Test
+    @DisplayName("Missing keys read as null")
+    void testMissingKey() {
+        assertNull(cache.get(KEY));
+    }
+}
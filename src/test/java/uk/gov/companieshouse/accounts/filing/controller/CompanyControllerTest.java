@@ -50,27 +50,6 @@ class CompanyControllerTest {
         assertEquals(mockResponse.accountsFilingId(), actualRes.accountsFilingId());
     }
 
-    @Test
-    @DisplayName("Return 400 when either company number or Transaction Id are missing")
-    void test_confirmCompany_for_BadRequest (){
-        var response = companyController.confirmCompany("12345", "  ", new CompanyRequest("Test Company"));
-        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
-    }
-
-    @Test
-    @DisplayName("Return 400 when when invalid transaction id is passed")
-    void test_confirmCompany_with_invalid_transactionId_return_BadRequest (){
-        var response = companyController.confirmCompany("12345", "1234-1234", new CompanyRequest("Test Company"));
-        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
-    }
-
-    @Test
-    @DisplayName("Return 400 when when invalid company number id is passed")
-    void test_confirmCompany_with_invalid_company_return_BadRequest (){
-        var response = companyController.confirmCompany("test-1234", "000000-123456-000000", new CompanyRequest("Test Company"));
-        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
-    }
-
     @Test
     @DisplayName("Return 500 during unhandled runtime exception. For example mongodb services are down.")
     void test_confirmCompany_for_internal_server_error (){
@@ -79,20 +58,6 @@ class CompanyControllerTest {
         assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
     }
 
-    @Test
-    @DisplayName("Return 400 when the request company number and Transaction Id are non alphanumeric")
-    void test_confirmCompany_with_invalidRequest_return_BadRequest(){
-        var response = companyController.confirmCompany("@$$", "*^&^", new CompanyRequest("Test Company"));
-        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
-    }
-
-    @Test
-    @DisplayName("Return 400 when the request company number and Transaction Id are missing or empty")
-    void test_confirmCompany_with_emptyInput_return_BadRequest(){
-        var response = companyController.confirmCompany("   ", "", new CompanyRequest("Test Company"));
-        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
-    }
-
     @Test
     @DisplayName("Exception handler logs error and returns 500")
     void exceptionHandler() {
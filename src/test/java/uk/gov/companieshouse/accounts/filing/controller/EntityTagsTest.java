@@ -0,0 +1,45 @@
+package uk.gov.companieshouse.accounts.filing.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EntityTagsTest {
+
+    @Test
+    @DisplayName("Entity tag is the quoted version, with an entry that was never updated at version 0")
+    void testOf() {
+        assertEquals("\"0\"", EntityTags.of(null));
+        assertEquals("\"7\"", EntityTags.of(7L));
+    }
+
+    @Test
+    @DisplayName("Entity tag of a response built from configuration adds the configuration tag")
+    void testOfWithConfiguration() {
+        assertEquals("\"7-0123abcd\"", EntityTags.of(7L, "0123abcd"));
+        assertEquals("\"0-0123abcd\"", EntityTags.of(null, "0123abcd"));
+        assertEquals(EntityTags.of(7L), EntityTags.of(7L, null));
+        assertFalse(EntityTags.matches(EntityTags.of(7L, "0123abcd"), EntityTags.of(7L, "4567cdef")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "\"7\"", "W/\"7\"", "*", "\"1\", \"7\"", " \"2\" ,W/\"7\" " })
+    @DisplayName("If-None-Match matches the current tag")
+    void testMatches(String ifNoneMatch) {
+        assertTrue(EntityTags.matches(ifNoneMatch, EntityTags.of(7L)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "\"6\"", "7", "\"70\"", "", "W/7", "\"1\", \"2\"" })
+    @NullSource
+    @DisplayName("If-None-Match does not match other tags")
+    void testDoesNotMatch(String ifNoneMatch) {
+        assertFalse(EntityTags.matches(ifNoneMatch, EntityTags.of(7L)));
+    }
+}
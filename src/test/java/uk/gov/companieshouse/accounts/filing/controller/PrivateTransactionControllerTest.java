@@ -1,9 +1,15 @@
 package uk.gov.companieshouse.accounts.filing.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,9 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 
-import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
 import uk.gov.companieshouse.accounts.filing.mapper.FilingGeneratorMapper;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.model.projection.VersionProjection;
 import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 import uk.gov.companieshouse.logging.Logger;
@@ -38,7 +46,8 @@ class PrivateTransactionControllerTest {
 
     private final static String accountsFilingId = "accountFilingId";
 
-    private final static AccountsFilingEntry accountsFilingEntry = new AccountsFilingEntry("1");
+    private final static FilingDetailsProjection accountsFilingEntry = Projections.of(FilingDetailsProjection.class,
+            new AccountsFilingEntry("1"));
     private final static FilingApi filingApi = new FilingApi();
 
     @BeforeEach
@@ -51,20 +60,66 @@ class PrivateTransactionControllerTest {
     void testGetFilingApiEntryWithMismatchIds() {
 
         when(accountsFilingService
-        .getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId)).thenThrow(EntryNotFoundException.class);
-        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntry(transactionId, accountsFilingId);
+        .findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId, FilingDetailsProjection.class)).thenReturn(Optional.empty());
+        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntry(transactionId, accountsFilingId, null);
         assertEquals(HttpStatusCode.valueOf(404), result.getStatusCode());
     }
 
     @Test
     @DisplayName("Test with valid inputs")
     void testGetFilingApi() {
-        when(accountsFilingService.getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId))
-                .thenReturn(accountsFilingEntry);
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                FilingDetailsProjection.class))
+                .thenReturn(Optional.of(accountsFilingEntry));
         when(filingGeneratorMapper.mapToFilingApi(accountsFilingEntry)).thenReturn(filingApi);
-        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntry(transactionId, accountsFilingId);
+        when(filingGeneratorMapper.configurationTag()).thenReturn("config");
+        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntry(transactionId, accountsFilingId, null);
         assertEquals(HttpStatusCode.valueOf(200), result.getStatusCode());
         assertEquals(filingApi, result.getBody()[0]);
+        assertEquals("\"0-config\"", result.getHeaders().getETag());
     }
 
+    @Test
+    @DisplayName("Test returns 304 without mapping the filing when the tag matches")
+    void testGetFilingApiNotModified() {
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                VersionProjection.class))
+                .thenReturn(Optional.of(Projections.of(VersionProjection.class, new AccountsFilingEntry("1"))));
+        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntry(transactionId, accountsFilingId, "\"0\"");
+        assertEquals(HttpStatusCode.valueOf(304), result.getStatusCode());
+        verify(filingGeneratorMapper, never()).mapToFilingApi(any());
+    }
+
+    @Test
+    @DisplayName("Test all filings of the transaction are returned from one lookup")
+    void testGetFilingApiEntries() {
+        FilingDetailsProjection otherEntry = Projections.of(FilingDetailsProjection.class,
+                new AccountsFilingEntry("2"));
+        FilingApi otherFilingApi = new FilingApi();
+        when(accountsFilingService.findAccountsFilingEntriesForTransaction(transactionId,
+                FilingDetailsProjection.class))
+                .thenReturn(List.of(accountsFilingEntry, otherEntry));
+        when(filingGeneratorMapper.mapToFilingApi(accountsFilingEntry)).thenReturn(filingApi);
+        when(filingGeneratorMapper.mapToFilingApi(otherEntry)).thenReturn(otherFilingApi);
+
+        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntries(transactionId);
+
+        assertEquals(HttpStatusCode.valueOf(200), result.getStatusCode());
+        assertEquals(2, result.getBody().length);
+        assertEquals(filingApi, result.getBody()[0]);
+        assertEquals(otherFilingApi, result.getBody()[1]);
+    }
+
+    @Test
+    @DisplayName("Test transaction without accounts filings returns 404")
+    void testGetFilingApiEntriesNotFound() {
+        when(accountsFilingService.findAccountsFilingEntriesForTransaction(transactionId,
+                FilingDetailsProjection.class))
+                .thenReturn(List.of());
+
+        ResponseEntity<FilingApi[]> result = controller.getFilingApiEntries(transactionId);
+
+        assertEquals(HttpStatusCode.valueOf(404), result.getStatusCode());
+        verify(filingGeneratorMapper, never()).mapToFilingApi(any());
+    }
 }
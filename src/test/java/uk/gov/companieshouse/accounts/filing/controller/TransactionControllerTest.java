@@ -6,8 +6,11 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,26 +19,43 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.equalTo;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
 import uk.gov.companieshouse.accounts.filing.model.AccountsPackageType;
+import uk.gov.companieshouse.accounts.filing.model.projection.CostsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.model.projection.VersionProjection;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
+import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.ResponseException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
 import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
 import uk.gov.companieshouse.accounts.filing.service.costs.CostsService;
 import uk.gov.companieshouse.accounts.filing.service.file.validation.AccountsValidationService;
+import uk.gov.companieshouse.accounts.filing.service.file.validation.ValidationStatusWatcher;
 import uk.gov.companieshouse.accounts.filing.service.transaction.TransactionService;
 import uk.gov.companieshouse.accounts.filing.transformer.TransactionTransformer;
 import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorResultApi;
@@ -54,6 +74,12 @@ class TransactionControllerTest {
 
     AccountsFilingEntry accountsFilingEntry;
 
+    FilingDetailsProjection filingDetails;
+
+    CostsProjection costsProjection;
+
+    VersionProjection versionProjection;
+
     private static final String transactionId = "transactionId";
 
     private static final String accountsFilingId = "accountsFilingId";
@@ -73,6 +99,9 @@ class TransactionControllerTest {
     @Mock
     CostsService costsService;
 
+    @Mock
+    ValidationStatusWatcher validationStatusWatcher;
+
     @Mock
     AccountsValidatorDataApi AccountsValidatorDataApi;
 
@@ -87,10 +116,13 @@ class TransactionControllerTest {
     @BeforeEach
     void setUp() {
         controller = new TransactionController(logger, accountsValidationService, accountsFilingService,
-                transactionService, accountsFilingTransformer, costsService);
+                transactionService, accountsFilingTransformer, costsService, validationStatusWatcher, Runnable::run, false);
 
         accountsFilingEntry = new AccountsFilingEntry(accountsFilingId, null, null, null,
                 transactionId, null, null, null);
+        filingDetails = Projections.of(FilingDetailsProjection.class, accountsFilingEntry);
+        costsProjection = Projections.of(CostsProjection.class, accountsFilingEntry);
+        versionProjection = Projections.of(VersionProjection.class, accountsFilingEntry);
         validationStatusResponse = new ValidationStatusResponse();
 
         costs = new ArrayList<>();
@@ -108,8 +140,8 @@ class TransactionControllerTest {
                 accountStatusResult);
         var filingEntry = new AccountsFilingEntry(accountsFilingId);
         // Given
-        when(accountsValidationService.validationStatusResult(fileId)).thenReturn(Optional.of(accountStatus));
         when(accountsValidationService.getFilingEntry(accountsFilingId)).thenReturn(filingEntry);
+        when(accountsValidationService.validationStatusResult(filingEntry, fileId)).thenReturn(Optional.of(accountStatus));
 
         // When
         ResponseEntity<AccountsValidatorStatusApi> result = controller.fileAccountsValidatorStatus(fileId,
@@ -129,9 +161,11 @@ class TransactionControllerTest {
     void testRequestingFileAccountsValidatorStatusNotFound() {
         String fileId = "fileId";
         String accountsFilingId = "accountsFilingId";
+        var filingEntry = new AccountsFilingEntry(accountsFilingId);
 
         // Given
-        when(accountsValidationService.validationStatusResult(fileId)).thenReturn(Optional.empty());
+        when(accountsValidationService.getFilingEntry(accountsFilingId)).thenReturn(filingEntry);
+        when(accountsValidationService.validationStatusResult(filingEntry, fileId)).thenReturn(Optional.empty());
 
         // When
         ResponseEntity<AccountsValidatorStatusApi> result = controller.fileAccountsValidatorStatus(fileId,
@@ -160,6 +194,8 @@ class TransactionControllerTest {
         AccountsPackageType packageType = new AccountsPackageType("Welsh");
         Transaction transaction = new Transaction();
 
+        when(accountsFilingService.savePackageType(transactionId, accountsFilingId, packageType.type()))
+                .thenReturn(accountsFilingEntry);
         when(transactionService.getTransaction(transactionId)).thenReturn(Optional.of(transaction));
 
         ResponseEntity<String> responseEntity = controller.setPackageType(transactionId, accountsFilingId, packageType);
@@ -174,6 +210,9 @@ class TransactionControllerTest {
         String accountsFilingId = "accountsFilingId";
         AccountsPackageType packageType = new AccountsPackageType("Welsh");
 
+        when(accountsFilingService.savePackageType(transactionId, accountsFilingId, packageType.type()))
+                .thenReturn(accountsFilingEntry);
+
         ResponseEntity<String> responseEntity = controller.setPackageType(transactionId, accountsFilingId, packageType);
 
         assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
@@ -185,11 +224,9 @@ class TransactionControllerTest {
         String transactionId = "transactionId";
         String accountsFilingId = "accountsFilingId";
         AccountsPackageType invalidPackageType = new AccountsPackageType("Invalid");
-        AccountsFilingEntry filingEntry = new AccountsFilingEntry(accountsFilingId);
 
-        when(accountsFilingService.getFilingEntry(accountsFilingId)).thenReturn(filingEntry);
-        doThrow(new UriValidationException()).when(accountsFilingService).savePackageType(filingEntry,
-                invalidPackageType.type());
+        doThrow(new UriValidationException()).when(accountsFilingService).savePackageType(transactionId,
+                accountsFilingId, invalidPackageType.type());
 
         assertThrows(UriValidationException.class,
                 () -> controller.setPackageType(transactionId, accountsFilingId, invalidPackageType));
@@ -202,10 +239,92 @@ class TransactionControllerTest {
         String accountsFilingId = "noMatchingId";
         AccountsPackageType packageType = new AccountsPackageType("Welsh");
 
-        doThrow(new EntryNotFoundException()).when(accountsFilingService).getFilingEntry(accountsFilingId);
+        doThrow(new EntryNotFoundException()).when(accountsFilingService).savePackageType(transactionId,
+                accountsFilingId, packageType.type());
+
+        assertThrows(EntryNotFoundException.class,
+                () -> controller.setPackageType(transactionId, accountsFilingId, packageType));
+    }
+
+    @Test
+    @DisplayName("Submit a package type with concurrent update and return a 204")
+    void testSetPackageTypeConcurrently() {
+        controller = new TransactionController(logger, accountsValidationService, accountsFilingService,
+                transactionService, accountsFilingTransformer, costsService, validationStatusWatcher, Runnable::run, true);
+        AccountsPackageType packageType = new AccountsPackageType("Welsh");
+        Transaction transaction = new Transaction();
+
+        when(accountsFilingService.savePackageType(transactionId, accountsFilingId, packageType.type()))
+                .thenReturn(accountsFilingEntry);
+        when(transactionService.getTransaction(transactionId)).thenReturn(Optional.of(transaction));
+
+        ResponseEntity<String> responseEntity = controller.setPackageType(transactionId, accountsFilingId, packageType);
+
+        assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
+        verify(accountsFilingService).savePackageType(transactionId, accountsFilingId, packageType.type());
+        verify(accountsFilingTransformer).setupTransactionResources(transaction, accountsFilingId, packageType.type());
+        verify(transactionService).updateTransaction(transaction);
+    }
+
+    @Test
+    @DisplayName("Submit a package type with concurrent update. The transaction is fetched with the request attributes")
+    void testSetPackageTypeConcurrentlyPropagatesRequestAttributes() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        controller = new TransactionController(logger, accountsValidationService, accountsFilingService,
+                transactionService, accountsFilingTransformer, costsService, validationStatusWatcher, executor, true);
+        AccountsPackageType packageType = new AccountsPackageType("Welsh");
+        RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        AtomicReference<RequestAttributes> fetchAttributes = new AtomicReference<>();
+
+        when(accountsFilingService.savePackageType(transactionId, accountsFilingId, packageType.type()))
+                .thenReturn(accountsFilingEntry);
+        when(transactionService.getTransaction(transactionId)).thenAnswer(invocation -> {
+            fetchAttributes.set(RequestContextHolder.getRequestAttributes());
+            return Optional.of(new Transaction());
+        });
+
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            controller.setPackageType(transactionId, accountsFilingId, packageType);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            executor.shutdown();
+        }
+
+        assertSame(requestAttributes, fetchAttributes.get());
+    }
+
+    @Test
+    @DisplayName("Submit a package type with concurrent update and a failed save. Throws the save exception")
+    void testSetPackageTypeConcurrentlyWithMissingAccountsFilingId() {
+        controller = new TransactionController(logger, accountsValidationService, accountsFilingService,
+                transactionService, accountsFilingTransformer, costsService, validationStatusWatcher, Runnable::run, true);
+        AccountsPackageType packageType = new AccountsPackageType("Welsh");
+
+        doThrow(new EntryNotFoundException()).when(accountsFilingService).savePackageType(transactionId,
+                accountsFilingId, packageType.type());
 
         assertThrows(EntryNotFoundException.class,
                 () -> controller.setPackageType(transactionId, accountsFilingId, packageType));
+        verify(transactionService, never()).updateTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Submit a package type with concurrent update and a failed transaction fetch. Throws the fetch exception")
+    void testSetPackageTypeConcurrentlyWithFailedTransactionFetch() {
+        controller = new TransactionController(logger, accountsValidationService, accountsFilingService,
+                transactionService, accountsFilingTransformer, costsService, validationStatusWatcher, Runnable::run, true);
+        AccountsPackageType packageType = new AccountsPackageType("Welsh");
+
+        when(transactionService.getTransaction(transactionId))
+                .thenThrow(new ExternalServiceException("External issue blocked getting transaction."));
+        when(accountsFilingService.savePackageType(transactionId, accountsFilingId, packageType.type()))
+                .thenReturn(accountsFilingEntry);
+
+        assertThrows(ExternalServiceException.class,
+                () -> controller.setPackageType(transactionId, accountsFilingId, packageType));
+        verify(accountsFilingService).savePackageType(transactionId, accountsFilingId, packageType.type());
+        verify(transactionService, never()).updateTransaction(any());
     }
 
     @Test
@@ -241,6 +360,17 @@ class TransactionControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("Exception handler when an update keeps conflicting and return 409")
+    void optimisticLockingFailureException() {
+        OptimisticLockingFailureException e = new OptimisticLockingFailureException("conflict");
+
+        ResponseEntity<?> response = controller.exceptionHandler(e);
+
+        verify(logger).error("Concurrent update conflict", e);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
     @Test
     @DisplayName("Exception handler logs error and returns 500")
     void exceptionHandler() {
@@ -267,24 +397,64 @@ class TransactionControllerTest {
         assertThat(response.getStatusCode(), is(HttpStatus.INTERNAL_SERVER_ERROR));
     }
 
+    @Test
+    @DisplayName("Long-poll for the validation status of a file saves and returns the result")
+    void testAwaitFileAccountsValidatorStatus() {
+        String fileId = "fileId";
+        AccountsValidatorStatusApi accountStatus = new AccountsValidatorStatusApi(fileId, "fileName", "complete",
+                new AccountsValidatorResultApi(AccountsValidatorDataApi, AccountsValidatorValidationStatusApi.OK));
+        var filingEntry = new AccountsFilingEntry(accountsFilingId);
+        CompletableFuture<Optional<AccountsValidatorStatusApi>> pending = new CompletableFuture<>();
+        when(accountsValidationService.getFilingEntry(accountsFilingId)).thenReturn(filingEntry);
+        when(validationStatusWatcher.getTimeout()).thenReturn(Duration.ofSeconds(25));
+        when(validationStatusWatcher.await(filingEntry, fileId)).thenReturn(pending);
+
+        DeferredResult<ResponseEntity<AccountsValidatorStatusApi>> result = controller
+                .awaitFileAccountsValidatorStatus(fileId, accountsFilingId);
+
+        Assertions.assertFalse(result.hasResult());
+        pending.complete(Optional.of(accountStatus));
+        assertEquals(ResponseEntity.ok(accountStatus), result.getResult());
+        verify(accountsValidationService).saveFileValidationResult(filingEntry, accountStatus);
+    }
+
+    @Test
+    @DisplayName("Long-poll for a file unknown to the account validator returns 404, and failures reach the exception handler")
+    void testAwaitFileAccountsValidatorStatusNotFoundAndFailure() {
+        var filingEntry = new AccountsFilingEntry(accountsFilingId);
+        ExternalServiceException failure = new ExternalServiceException("validator down");
+        when(accountsValidationService.getFilingEntry(accountsFilingId)).thenReturn(filingEntry);
+        when(validationStatusWatcher.getTimeout()).thenReturn(Duration.ofSeconds(25));
+        when(validationStatusWatcher.await(filingEntry, "unknown"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(validationStatusWatcher.await(filingEntry, "failing"))
+                .thenReturn(CompletableFuture.failedFuture(failure));
+
+        assertEquals(ResponseEntity.notFound().build(),
+                controller.awaitFileAccountsValidatorStatus("unknown", accountsFilingId).getResult());
+        assertEquals(failure, controller.awaitFileAccountsValidatorStatus("failing", accountsFilingId).getResult());
+        verify(accountsValidationService, never()).saveFileValidationResult(any(), any());
+    }
+
     @Test
     @DisplayName("Test validation status returns 200 with true")
     void testValidateAccountsFilingDataReturns200True() {
         // Given
         validationStatusResponse.setValid(true);
-        when(accountsFilingService.getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId))
-                .thenReturn(accountsFilingEntry);
-        when(accountsFilingService.validateAccountsFilingEntry(accountsFilingEntry))
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                FilingDetailsProjection.class))
+                .thenReturn(Optional.of(filingDetails));
+        when(accountsFilingService.validateAccountsFilingEntry(filingDetails))
                 .thenReturn(validationStatusResponse);
 
         // When
-        ResponseEntity<?> validResult = controller.validateAccountsFilingData(transactionId, accountsFilingId);
+        ResponseEntity<?> validResult = controller.validateAccountsFilingData(transactionId, accountsFilingId, null);
 
         // Then
         Assertions.assertEquals(HttpStatus.OK, validResult.getStatusCode());
         Assertions.assertNotNull(validResult.getBody());
         Assertions.assertTrue(((ValidationStatusResponse) validResult.getBody()).isValid());
-        verify(accountsFilingService, times(1)).validateAccountsFilingEntry(accountsFilingEntry);
+        verify(accountsFilingService, times(1)).validateAccountsFilingEntry(filingDetails);
     }
 
     @Test
@@ -292,30 +462,32 @@ class TransactionControllerTest {
     void testValidateAccountsFilingDataReturns200False() {
         // Given
         validationStatusResponse.setValid(false);
-        when(accountsFilingService.getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId))
-                .thenReturn(accountsFilingEntry);
-        when(accountsFilingService.validateAccountsFilingEntry(accountsFilingEntry))
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                FilingDetailsProjection.class))
+                .thenReturn(Optional.of(filingDetails));
+        when(accountsFilingService.validateAccountsFilingEntry(filingDetails))
                 .thenReturn(validationStatusResponse);
 
         // When
-        ResponseEntity<?> inValidResult = controller.validateAccountsFilingData(transactionId, accountsFilingId);
+        ResponseEntity<?> inValidResult = controller.validateAccountsFilingData(transactionId, accountsFilingId, null);
 
         // Then
         Assertions.assertEquals(HttpStatus.OK, inValidResult.getStatusCode());
         Assertions.assertNotNull(inValidResult.getBody());
         Assertions.assertFalse(((ValidationStatusResponse) inValidResult.getBody()).isValid());
-        verify(accountsFilingService, times(1)).validateAccountsFilingEntry(accountsFilingEntry);
+        verify(accountsFilingService, times(1)).validateAccountsFilingEntry(filingDetails);
     }
 
     @Test
     @DisplayName("Test validation status returns 404 for invalid transaction and filing id")
     void testValidateAccountsFilingDataReturns404() {
         // Given
-        doThrow(new EntryNotFoundException("Accounts filing entry not found")).when(accountsFilingService)
-                .getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId);
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                FilingDetailsProjection.class))
+                .thenReturn(Optional.empty());
 
         // When
-        ResponseEntity<?> inValidResult = controller.validateAccountsFilingData(transactionId, accountsFilingId);
+        ResponseEntity<?> inValidResult = controller.validateAccountsFilingData(transactionId, accountsFilingId, null);
 
         // Then
         Assertions.assertEquals(HttpStatus.NOT_FOUND, inValidResult.getStatusCode());
@@ -326,11 +498,12 @@ class TransactionControllerTest {
     @DisplayName("Test calculateCosts returns 200 with an empty cost array")
     void testCalculateCostsReturns200EmptyArray() {
         // Given
-        when(accountsFilingService.getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId))
-                .thenReturn(accountsFilingEntry);
-        when(costsService.calculateCosts(accountsFilingEntry)).thenReturn(costs);
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                CostsProjection.class))
+                .thenReturn(Optional.of(costsProjection));
+        when(costsService.calculateCosts(costsProjection)).thenReturn(costs);
         // When
-        ResponseEntity<?> validResult = controller.calculateCosts(transactionId, accountsFilingId);
+        ResponseEntity<?> validResult = controller.calculateCosts(transactionId, accountsFilingId, null);
 
         // Then
         Assertions.assertEquals(HttpStatus.OK, validResult.getStatusCode());
@@ -342,12 +515,103 @@ class TransactionControllerTest {
     @DisplayName("Test calculateCosts returns 404 for transaction and filing id")
     void testCalculateCostsReturns404ForInvalidId() {
         // Given
-        doThrow(new EntryNotFoundException("Accounts filing entry not found")).when(accountsFilingService)
-                .getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId);
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                CostsProjection.class))
+                .thenReturn(Optional.empty());
         // When
-        ResponseEntity<?> inValidResult = controller.calculateCosts(transactionId, accountsFilingId);
+        ResponseEntity<?> inValidResult = controller.calculateCosts(transactionId, accountsFilingId, null);
         // Then
         Assertions.assertEquals(HttpStatus.NOT_FOUND, inValidResult.getStatusCode());
         Assertions.assertNull(inValidResult.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test validation status and costs return the entity tag of the entry version")
+    void testReadEndpointsReturnEntityTag() {
+        // Given
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                FilingDetailsProjection.class))
+                .thenReturn(Optional.of(filingDetails));
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                CostsProjection.class))
+                .thenReturn(Optional.of(costsProjection));
+        when(accountsFilingService.validateAccountsFilingEntry(filingDetails))
+                .thenReturn(validationStatusResponse);
+        when(costsService.calculateCosts(costsProjection)).thenReturn(costs);
+        when(costsService.configurationTag()).thenReturn("fees");
+
+        // When
+        ResponseEntity<?> validationResult = controller.validateAccountsFilingData(transactionId, accountsFilingId, null);
+        ResponseEntity<?> costsResult = controller.calculateCosts(transactionId, accountsFilingId, null);
+
+        // Then
+        Assertions.assertEquals("\"0\"", validationResult.getHeaders().getETag());
+        Assertions.assertEquals("\"0-fees\"", costsResult.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Test validation status and costs return 304 without building the body when the tag matches")
+    void testReadEndpointsReturn304WhenTagMatches() {
+        // Given
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                VersionProjection.class))
+                .thenReturn(Optional.of(versionProjection));
+        when(costsService.configurationTag()).thenReturn("fees");
+
+        // When
+        ResponseEntity<?> validationResult = controller.validateAccountsFilingData(transactionId, accountsFilingId, "\"0\"");
+        ResponseEntity<?> costsResult = controller.calculateCosts(transactionId, accountsFilingId, "W/\"0-fees\"");
+
+        // Then
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, validationResult.getStatusCode());
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, costsResult.getStatusCode());
+        Assertions.assertEquals("\"0-fees\"", costsResult.getHeaders().getETag());
+        Assertions.assertNull(costsResult.getBody());
+        verify(accountsFilingService, never()).findAccountsFilingEntryForIDAndTransaction(transactionId,
+                accountsFilingId, CostsProjection.class);
+        verify(accountsFilingService, never()).validateAccountsFilingEntry(any());
+        verify(costsService, never()).calculateCosts(any());
+    }
+
+    @Test
+    @DisplayName("Test costs returns 200 when the tag does not match the entry version")
+    void testCalculateCostsReturns200WhenTagIsStale() {
+        // Given
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                VersionProjection.class))
+                .thenReturn(Optional.of(versionProjection));
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                CostsProjection.class))
+                .thenReturn(Optional.of(costsProjection));
+        when(costsService.calculateCosts(costsProjection)).thenReturn(costs);
+        when(costsService.configurationTag()).thenReturn("fees");
+
+        // When
+        ResponseEntity<?> result = controller.calculateCosts(transactionId, accountsFilingId, "\"3-fees\"");
+
+        // Then
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals("\"0-fees\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Test costs returns 200 when the tag was issued with different fees")
+    void testCalculateCostsReturns200WhenFeesChanged() {
+        // Given
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                VersionProjection.class))
+                .thenReturn(Optional.of(versionProjection));
+        when(accountsFilingService.findAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId,
+                CostsProjection.class))
+                .thenReturn(Optional.of(costsProjection));
+        when(costsService.calculateCosts(costsProjection)).thenReturn(costs);
+        when(costsService.configurationTag()).thenReturn("new-fees");
+
+        // When
+        ResponseEntity<?> result = controller.calculateCosts(transactionId, accountsFilingId, "\"0-old-fees\"");
+
+        // Then
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertEquals("\"0-new-fees\"", result.getHeaders().getETag());
+    }
+}
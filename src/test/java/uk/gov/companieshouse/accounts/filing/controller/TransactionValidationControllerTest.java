@@ -0,0 +1,138 @@
+package uk.gov.companieshouse.accounts.filing.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.service.accounts.AccountsFilingService;
+import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
+import uk.gov.companieshouse.logging.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionValidationControllerTest {
+
+    private static final String TRANSACTION_ID = "000000-123456-000000";
+
+    private static final String FIRST_ID = "a1".repeat(12);
+
+    private static final String SECOND_ID = "b2".repeat(12);
+
+    @Mock
+    AccountsFilingService accountsFilingService;
+
+    @Mock
+    Logger logger;
+
+    TransactionValidationController controller;
+
+    FilingDetailsProjection firstEntry;
+
+    FilingDetailsProjection secondEntry;
+
+    ValidationStatusResponse valid;
+
+    ValidationStatusResponse invalid;
+
+    @BeforeEach
+    void setUp() {
+        controller = new TransactionValidationController(accountsFilingService, logger);
+        firstEntry = Projections.of(FilingDetailsProjection.class, new AccountsFilingEntry(FIRST_ID));
+        secondEntry = Projections.of(FilingDetailsProjection.class, new AccountsFilingEntry(SECOND_ID));
+        valid = new ValidationStatusResponse();
+        valid.setValid(true);
+        invalid = new ValidationStatusResponse();
+        invalid.setValid(false);
+    }
+
+    @Test
+    @DisplayName("Validate every accounts filing of the transaction")
+    void testValidateAllAccountsFilings() {
+        when(accountsFilingService.findAccountsFilingEntriesForTransaction(TRANSACTION_ID,
+                FilingDetailsProjection.class)).thenReturn(List.of(firstEntry, secondEntry));
+        when(accountsFilingService.validateAccountsFilingEntry(firstEntry)).thenReturn(valid);
+        when(accountsFilingService.validateAccountsFilingEntry(secondEntry)).thenReturn(invalid);
+
+        ResponseEntity<Map<String, ValidationStatusResponse>> result = controller
+                .validateAccountsFilings(TRANSACTION_ID, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(FIRST_ID, SECOND_ID), List.copyOf(result.getBody().keySet()));
+        assertEquals(valid, result.getBody().get(FIRST_ID));
+        assertEquals(invalid, result.getBody().get(SECOND_ID));
+    }
+
+    @Test
+    @DisplayName("Validate the given accounts filings with one lookup, ignoring repeated ids")
+    void testValidateGivenAccountsFilings() {
+        when(accountsFilingService.findAccountsFilingEntriesForIDsAndTransaction(TRANSACTION_ID,
+                Set.of(FIRST_ID, SECOND_ID), FilingDetailsProjection.class))
+                .thenReturn(List.of(firstEntry, secondEntry));
+        when(accountsFilingService.validateAccountsFilingEntry(any())).thenReturn(valid);
+
+        ResponseEntity<Map<String, ValidationStatusResponse>> result = controller
+                .validateAccountsFilings(TRANSACTION_ID, List.of(SECOND_ID, FIRST_ID, SECOND_ID));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(2, result.getBody().size());
+    }
+
+    @Test
+    @DisplayName("Return 404 when a given id is not an accounts filing of the transaction")
+    void testValidateGivenAccountsFilingsMissing() {
+        when(accountsFilingService.findAccountsFilingEntriesForIDsAndTransaction(TRANSACTION_ID,
+                Set.of(FIRST_ID, SECOND_ID), FilingDetailsProjection.class))
+                .thenReturn(List.of(firstEntry));
+
+        ResponseEntity<Map<String, ValidationStatusResponse>> result = controller
+                .validateAccountsFilings(TRANSACTION_ID, List.of(FIRST_ID, SECOND_ID));
+
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        verify(accountsFilingService, never()).validateAccountsFilingEntry(any());
+    }
+
+    @Test
+    @DisplayName("Return 404 when the transaction has no accounts filings")
+    void testValidateAllAccountsFilingsNone() {
+        when(accountsFilingService.findAccountsFilingEntriesForTransaction(TRANSACTION_ID,
+                FilingDetailsProjection.class)).thenReturn(List.of());
+
+        assertEquals(HttpStatus.NOT_FOUND, controller.validateAccountsFilings(TRANSACTION_ID, null).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Return 400 for malformed ids, no ids or too many ids without a lookup")
+    void testValidateGivenAccountsFilingsBadRequest() {
+        List<String> tooMany = IntStream.rangeClosed(0, TransactionValidationController.MAX_ACCOUNTS_FILING_IDS)
+                .mapToObj(i -> String.format("%024x", i))
+                .toList();
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.validateAccountsFilings(TRANSACTION_ID, List.of(FIRST_ID, "bad")).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.validateAccountsFilings(TRANSACTION_ID, List.of()).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.validateAccountsFilings(TRANSACTION_ID, tooMany).getStatusCode());
+        verify(accountsFilingService, never()).findAccountsFilingEntriesForIDsAndTransaction(anyString(), any(),
+                any());
+    }
+}
@@ -0,0 +1,185 @@
+package uk.gov.companieshouse.accounts.filing.interceptor.validation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import uk.gov.companieshouse.accounts.filing.interceptor.validation.PathIdInterceptor.PathId;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
+import uk.gov.companieshouse.logging.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class PathIdInterceptorTest {
+
+    private static final String FILE_STATUS_ROUTE =
+            "/transactions/{transactionId}/accounts-filing/{accountsFilingId}/file/{fileId}/status";
+    private static final String COMPANY_CONFIRM_ROUTE =
+            "/transactions/{transactionId}/accounts-filing/company/{companyNumber}/confirm";
+    private static final String TRANSACTION_ID = "000000-123456-000000";
+    private static final String ACCOUNTS_FILING_ID = "a1".repeat(12);
+    private static final String FILE_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String COMPANY_NUMBER = "NI123456";
+
+    @Mock
+    private Logger logger;
+
+    private PathIdInterceptor pathIdInterceptor;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private Map<String, String> pathVariables;
+
+    @BeforeEach
+    void setUp() {
+        pathIdInterceptor = new PathIdInterceptor(logger);
+        request = new MockHttpServletRequest();
+        request.addHeader(Constants.ERIC_REQUEST_ID_KEY, "abc");
+        response = new MockHttpServletResponse();
+        pathVariables = new HashMap<>();
+        pathVariables.put(Constants.TRANSACTION_ID_KEY, TRANSACTION_ID);
+        pathVariables.put(Constants.ACCOUNT_FILING_ID_KEY, ACCOUNTS_FILING_ID);
+        pathVariables.put(Constants.FILE_ID_KEY, FILE_ID);
+        pathVariables.put(Constants.COMPANY_NUMBER_KEY, COMPANY_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Validate every id in path")
+    void testPreHandle() {
+        assertTrue(preHandle(FILE_STATUS_ROUTE));
+        assertTrue(preHandle(COMPANY_CONFIRM_ROUTE));
+        verify(logger, never()).infoContext(anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Routes without ids are not checked")
+    void testPreHandleWithoutIds() {
+        pathVariables.clear();
+
+        assertTrue(preHandle("/accounts-filing/healthcheck"));
+        assertTrue(pathIdInterceptor.preHandle(request, response, new Object()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "                    ", "000000-123456-00000a", "000000_123456_000000", "@$$", "*^&^",
+            "1234-1234", "  " })
+    @NullSource
+    @DisplayName("Validate transaction id with invalid chars in path return 400")
+    void testPreHandleFailedTransactionId(String transactionId) {
+        pathVariables.put(Constants.TRANSACTION_ID_KEY, transactionId);
+
+        assertRejected(FILE_STATUS_ROUTE, "Transaction id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1-1-1-1-1-1-1-1-1-1-", "0000001234560000000-", "12345678901234567890",
+            "--------------------" })
+    @DisplayName("Transaction ids of 20 digits and dashes in any order are accepted outside the company route")
+    void testPreHandleAcceptsUndashedTransactionId(String transactionId) {
+        pathVariables.put(Constants.TRANSACTION_ID_KEY, transactionId);
+
+        assertTrue(preHandle(FILE_STATUS_ROUTE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1-1-1-1-1-1-1-1-1-1-", "0000001234560000000-", "12345678901234567890",
+            "000000-123456-00000a" })
+    @DisplayName("The company route only accepts transaction ids in the 000000-000000-000000 form")
+    void testPreHandleFailedCompanyTransactionId(String transactionId) {
+        pathVariables.put(Constants.TRANSACTION_ID_KEY, transactionId);
+
+        assertRejected(COMPANY_CONFIRM_ROUTE, "Transaction id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "                        ", "A1A1A1A1A1A1A1A1A1A1A1A1", "a1a1a1a1a1a1a1a1a1a1a1a",
+            "g1a1a1a1a1a1a1a1a1a1a1a1" })
+    @NullSource
+    @DisplayName("Validate accounts filing id with invalid chars in path return 400")
+    void testPreHandleFailedAccountsFilingId(String accountsFilingId) {
+        pathVariables.put(Constants.ACCOUNT_FILING_ID_KEY, accountsFilingId);
+
+        assertRejected(FILE_STATUS_ROUTE, "Accounts filing id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "                                    ",
+            "A-A-A-A-A-A-A-A-A-A-A-A-A-A-A-A-A-A-",
+            "1-1-1-1-1-1-1-1-1-1-1-1-1-1-1-1-1-1-",
+            "AAAAAAAA-1111-1111-1111-111111111111",
+            "11111111-1111-1111-1111-11111111111g" })
+    @NullSource
+    @DisplayName("Validate file id with invalid chars in path return 400")
+    void testPreHandleFailedFileId(String fileId) {
+        pathVariables.put(Constants.FILE_ID_KEY, fileId);
+
+        assertRejected(FILE_STATUS_ROUTE, "File id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "12345", "test-1234", "@$$", "   ", "", "ni123456", "NI1234567" })
+    @NullSource
+    @DisplayName("Validate company number with invalid chars in path return 400")
+    void testPreHandleFailedCompanyNumber(String companyNumber) {
+        pathVariables.put(Constants.COMPANY_NUMBER_KEY, companyNumber);
+
+        assertRejected(COMPANY_CONFIRM_ROUTE, "Company number");
+    }
+
+    @Test
+    @DisplayName("Missing path variables return 400")
+    void testPreHandleFailedWithoutPathVariables() {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, FILE_STATUS_ROUTE);
+
+        assertFalse(pathIdInterceptor.preHandle(request, response, new Object()));
+        assertEquals(400, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Route ids are resolved in path order")
+    void testResolvePathIds() {
+        assertArrayEquals(new PathId[] { PathId.TRANSACTION_ID, PathId.ACCOUNTS_FILING_ID, PathId.FILE_ID },
+                PathIdInterceptor.resolvePathIds(FILE_STATUS_ROUTE));
+        assertArrayEquals(new PathId[] { PathId.DASHED_TRANSACTION_ID, PathId.COMPANY_NUMBER },
+                PathIdInterceptor.resolvePathIds(COMPANY_CONFIRM_ROUTE));
+        assertArrayEquals(new PathId[] { PathId.TRANSACTION_ID },
+                PathIdInterceptor.resolvePathIds("/transactions/{transactionId:.+}/{other}/{*rest}"));
+        assertArrayEquals(new PathId[0], PathIdInterceptor.resolvePathIds("/accounts-filing/healthcheck"));
+    }
+
+    private boolean preHandle(String route) {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return pathIdInterceptor.preHandle(request, response, new Object());
+    }
+
+    private void assertRejected(String route, String description) {
+        assertFalse(preHandle(route));
+        assertEquals(400, response.getStatus());
+        verify(logger).infoContext(eq("abc"), eq(description + " did not match allowed chars and length"), any());
+    }
+}
@@ -7,9 +7,11 @@ import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.template.PackageTypeTemplates;
 import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
 import uk.gov.companieshouse.api.model.filinggenerator.FilingApi;
 
@@ -48,18 +50,15 @@ class FilingGeneratorMapperTest {
 
     @BeforeEach
     void beforeEach() {
-        filingGeneratorMapper = new FilingGeneratorMapper();
-        ReflectionTestUtils.setField(filingGeneratorMapper, "bucket", "bucket");
-        ReflectionTestUtils.setField(filingGeneratorMapper, "scheme", "scheme");
-        ReflectionTestUtils.setField(filingGeneratorMapper, "cicCost", CIC_COST);
-        ReflectionTestUtils.setField(filingGeneratorMapper, "overseasCost", OVERSEAS_COST);
+        filingGeneratorMapper = new FilingGeneratorMapper(
+                new PackageTypeTemplates(CIC_COST, OVERSEAS_COST, "scheme", "bucket"));
         links = createLinks();
     }
 
     @Test
     void testMapToFilingApi() {
         accountsFilingEntry = createAccountsFilingEntry();
-        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(accountsFilingEntry);
+        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(Projections.of(FilingDetailsProjection.class, accountsFilingEntry));
         assertEquals("Package accounts made up to " + madeUpDateFormatted, filingApi.getDescription());
         assertEquals("AUDITED FULL", filingApi.getDescriptionIdentifier());
         assertEquals(Collections.singletonMap("made up date", madeUpDate), filingApi.getDescriptionValues());
@@ -76,7 +75,7 @@ class FilingGeneratorMapperTest {
         accountsFilingEntry = createAccountsFilingEntry();
         accountsFilingEntry.setPackageType(PackageTypeApi.OVERSEAS);
         accountsFilingEntry.setMadeUpDate(null);
-        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(accountsFilingEntry);
+        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(Projections.of(FilingDetailsProjection.class, accountsFilingEntry));
         assertEquals("Package accounts with package type overseas", filingApi.getDescription());
         assertEquals("AUDITED FULL", filingApi.getDescriptionIdentifier());
         assertEquals(Collections.singletonMap("made up date", null), filingApi.getDescriptionValues());
@@ -92,7 +91,7 @@ class FilingGeneratorMapperTest {
     void testMapToFilingApiWhenPackageTypeIsCIC() {
         accountsFilingEntry = createAccountsFilingEntry();
         accountsFilingEntry.setPackageType(PackageTypeApi.CIC);
-        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(accountsFilingEntry);
+        FilingApi filingApi = filingGeneratorMapper.mapToFilingApi(Projections.of(FilingDetailsProjection.class, accountsFilingEntry));
         assertEquals("Package accounts made up to " + madeUpDateFormatted, filingApi.getDescription());
         assertEquals("AUDITED FULL", filingApi.getDescriptionIdentifier());
         assertEquals(Collections.singletonMap("made up date", madeUpDate), filingApi.getDescriptionValues());
@@ -108,6 +107,6 @@ class FilingGeneratorMapperTest {
     void testMapToFilingApiWhenMadeUpdateIsNull() {
         accountsFilingEntry = createAccountsFilingEntry();
         accountsFilingEntry.setMadeUpDate(null);
-        assertThrows(NullPointerException.class, () -> filingGeneratorMapper.mapToFilingApi(accountsFilingEntry));
+        assertThrows(NullPointerException.class, () -> filingGeneratorMapper.mapToFilingApi(Projections.of(FilingDetailsProjection.class, accountsFilingEntry)));
     }
 }
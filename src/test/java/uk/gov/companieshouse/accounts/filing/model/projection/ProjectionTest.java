@@ -0,0 +1,52 @@
+package uk.gov.companieshouse.accounts.filing.model.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+
+/**
+ * Spring Data only restricts the fields read for a projection that the entity is not assignable
+ * to, so the entity must never implement a projection.
+ */
+class ProjectionTest {
+
+    static List<Arguments> projections() {
+        return List.of(
+                Arguments.of(VersionProjection.class, List.of("version", "packageType")),
+                Arguments.of(CostsProjection.class, List.of("packageType", "companyName", "version")),
+                Arguments.of(FilingDetailsProjection.class, List.of("accountsFilingId", "transactionId",
+                        "packageType", "accountsType", "madeUpDate", "fileId", "version")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("projections")
+    void testProjectionRestrictsFields(Class<?> projection, List<String> fields) {
+        ReturnedType returnedType = ReturnedType.of(projection, AccountsFilingEntry.class,
+                new SpelAwareProxyProjectionFactory());
+
+        assertFalse(projection.isAssignableFrom(AccountsFilingEntry.class));
+        assertTrue(returnedType.isProjecting());
+        assertFalse(AccountsFilingEntry.class.isAssignableFrom(returnedType.getReturnedType()));
+        assertEquals(fields.stream().sorted().toList(),
+                returnedType.getInputProperties().stream().sorted().toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("projections")
+    void testProjectionOfEntryIsNotTheEntry(Class<?> projection, List<String> fields) {
+        Object projected = Projections.of(projection, new AccountsFilingEntry("accountsFilingId"));
+
+        assertFalse(projected instanceof AccountsFilingEntry);
+        assertTrue(projection.isInstance(projected));
+    }
+}
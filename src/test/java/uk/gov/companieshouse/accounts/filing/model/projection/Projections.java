@@ -0,0 +1,22 @@
+package uk.gov.companieshouse.accounts.filing.model.projection;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+
+/**
+ * Builds projections of accounts filing entries for tests, the same way Spring Data does for
+ * the results of a projected query.
+ */
+public final class Projections {
+
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    private Projections() {
+    }
+
+    public static <T> T of(final Class<T> projection, final AccountsFilingEntry accountsFilingEntry) {
+        return PROJECTION_FACTORY.createProjection(projection, accountsFilingEntry);
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.accounts.filing.observation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.common.KeyValue;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+class PackageTypeRequestObservationConventionTest {
+
+    PackageTypeRequestObservationConvention convention;
+
+    MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        convention = new PackageTypeRequestObservationConvention();
+        request = new MockHttpServletRequest("GET", "/transactions/transactionId/accounts-filing/accountsFilingId/costs");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Requests tag their metrics with the recorded package type")
+    void testPackageTypeTag() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        PackageTypeRequestObservationConvention.recordPackageType(PackageTypeApi.WELSH);
+
+        assertEquals(KeyValue.of("package_type", "WELSH"), packageTypeTag());
+    }
+
+    @Test
+    @DisplayName("Requests without a recorded package type are tagged none")
+    void testMissingPackageTypeTag() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        PackageTypeRequestObservationConvention.recordPackageType(null);
+
+        assertEquals(KeyValue.of("package_type", "none"), packageTypeTag());
+    }
+
+    @Test
+    @DisplayName("Recording a package type outside a request does nothing")
+    void testRecordPackageTypeOutsideRequest() {
+        PackageTypeRequestObservationConvention.recordPackageType(PackageTypeApi.WELSH);
+
+        assertNull(request.getAttribute(PackageTypeRequestObservationConvention.PACKAGE_TYPE_ATTRIBUTE));
+        assertEquals(KeyValue.of("package_type", "none"), packageTypeTag());
+    }
+
+    private KeyValue packageTypeTag() {
+        final ServerRequestObservationContext context = new ServerRequestObservationContext(request,
+                new MockHttpServletResponse());
+        return convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals("package_type"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.companieshouse.accounts.filing.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.FileValidationFields;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+
+@ExtendWith(MockitoExtension.class)
+class AccountsFilingRepositoryCustomImplTest {
+
+    private static final String ACCOUNTS_FILING_ID = "accountsFilingId";
+
+    private static final String TRANSACTION_ID = "transactionId";
+
+    @Mock
+    MongoTemplate mongoTemplate;
+
+    @Captor
+    ArgumentCaptor<Query> queryCaptor;
+
+    @Captor
+    ArgumentCaptor<Update> updateCaptor;
+
+    AccountsFilingRepositoryCustomImpl repository;
+
+    AccountsFilingEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AccountsFilingRepositoryCustomImpl(mongoTemplate);
+        entry = new AccountsFilingEntry(ACCOUNTS_FILING_ID, "fileId", "01", PackageTypeApi.UKSEF,
+                TRANSACTION_ID, "companyNumber", "companyName", "2021-01-30");
+    }
+
+    @Test
+    @DisplayName("Find and update package type filters on id and transaction and only sets the package type")
+    void testFindAndUpdatePackageType() {
+        when(mongoTemplate.findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+                any(FindAndModifyOptions.class), eq(AccountsFilingEntry.class))).thenReturn(entry);
+
+        Optional<AccountsFilingEntry> result = repository.findAndUpdatePackageType(ACCOUNTS_FILING_ID,
+                TRANSACTION_ID, PackageTypeApi.UKSEF);
+
+        assertEquals(Optional.of(entry), result);
+        assertEquals(ACCOUNTS_FILING_ID, queryCaptor.getValue().getQueryObject().get("_id"));
+        assertEquals(TRANSACTION_ID, queryCaptor.getValue().getQueryObject().get("transactionId"));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals(1, set.size());
+        assertEquals(PackageTypeApi.UKSEF, set.get("packageType"));
+        assertEquals(new Document("version", 1), updateCaptor.getValue().getUpdateObject().get("$inc"));
+    }
+
+    @Test
+    @DisplayName("Find and update package type returns empty when no entry matched")
+    void testFindAndUpdatePackageTypeNoMatch() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(AccountsFilingEntry.class))).thenReturn(null);
+
+        assertTrue(repository.findAndUpdatePackageType(ACCOUNTS_FILING_ID, "otherTransactionId",
+                PackageTypeApi.UKSEF).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Update file validation result only sets the validation fields")
+    void testUpdateFileValidationResult() {
+        when(mongoTemplate.updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(AccountsFilingEntry.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertTrue(repository.updateFileValidationResult(ACCOUNTS_FILING_ID, null,
+                FileValidationFields.of(entry)));
+
+        assertEquals(ACCOUNTS_FILING_ID, queryCaptor.getValue().getQueryObject().get("_id"));
+        assertTrue(queryCaptor.getValue().getQueryObject().containsKey("version"));
+        assertNull(queryCaptor.getValue().getQueryObject().get("version"));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals(4, set.size());
+        assertEquals("fileId", set.get("fileId"));
+        assertEquals("01", set.get("accountsType"));
+        assertEquals("2021-01-30", set.get("madeUpDate"));
+        assertTrue(set.containsKey("validationResult"));
+        assertEquals(new Document("version", 1), updateCaptor.getValue().getUpdateObject().get("$inc"));
+    }
+
+    @Test
+    @DisplayName("Update returns false when no entry matched, including when the stored version is newer")
+    void testUpdateNoMatch() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(AccountsFilingEntry.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertFalse(repository.updateFileValidationResult(ACCOUNTS_FILING_ID, null,
+                FileValidationFields.of(entry)));
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(AccountsFilingEntry.class));
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.companieshouse.accounts.filing.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+
+class VersionConflictRetryTest {
+
+    private static final String OPERATION = "operation";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VersionConflictRetry retry;
+
+    private List<AccountsFilingEntry> attempts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retry = new VersionConflictRetry(meterRegistry, 3);
+        attempts = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("An update without a conflict runs once and counts nothing")
+    void testUpdateWithoutConflict() {
+        final AccountsFilingEntry entry = new AccountsFilingEntry("id");
+
+        retry.update(OPERATION, entry, attempts::add, () -> new AccountsFilingEntry("id"));
+
+        assertEquals(List.of(entry), attempts);
+        assertEquals(0.0, count(VersionConflictRetry.CONFLICTS));
+        assertEquals(0.0, count(VersionConflictRetry.RETRIES));
+    }
+
+    @Test
+    @DisplayName("A conflicted update is applied again to the reloaded entry")
+    void testUpdateRetriedWithReloadedEntry() {
+        final AccountsFilingEntry entry = new AccountsFilingEntry("id");
+        final AccountsFilingEntry reloaded = new AccountsFilingEntry("id");
+
+        retry.update(OPERATION, entry, attempt -> attempts.add(attempt) && attempt == reloaded, () -> reloaded);
+
+        assertEquals(List.of(entry, reloaded), attempts);
+        assertEquals(1.0, count(VersionConflictRetry.CONFLICTS));
+        assertEquals(1.0, count(VersionConflictRetry.RETRIES));
+    }
+
+    @Test
+    @DisplayName("An update that conflicts on every attempt fails")
+    void testUpdateConflictsExhausted() {
+        assertThrows(OptimisticLockingFailureException.class, () -> retry.update(OPERATION,
+                new AccountsFilingEntry("id"), attempt -> !attempts.add(attempt), () -> new AccountsFilingEntry("id")));
+
+        assertEquals(3, attempts.size());
+        assertEquals(3.0, count(VersionConflictRetry.CONFLICTS));
+        assertEquals(2.0, count(VersionConflictRetry.RETRIES));
+    }
+
+    @Test
+    @DisplayName("An entry that no longer exists is not counted as a conflict")
+    void testUpdateOfMissingEntry() {
+        assertThrows(EntryNotFoundException.class, () -> retry.update(OPERATION, new AccountsFilingEntry("id"),
+                attempt -> false, () -> {
+                    throw new EntryNotFoundException("missing");
+                }));
+
+        assertEquals(0.0, count(VersionConflictRetry.CONFLICTS));
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "operation", OPERATION).count();
+    }
+}
@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +23,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.UriValidationException;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
 import uk.gov.companieshouse.accounts.filing.repository.AccountsFilingRepository;
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
 import uk.gov.companieshouse.logging.Logger;
@@ -73,27 +79,46 @@ class AccountsFilingServiceTest {
     @DisplayName("Save package type to existing entry")
     void testSavePackageType() {
         var accountsFilingId = "accountsFilingId";
+        var transactionId = "transactionId";
         AccountsFilingEntry entry = new AccountsFilingEntry(accountsFilingId);
 
-        service.savePackageType(entry, "uksef");
+        when(accountsFilingRepository.findAndUpdatePackageType(accountsFilingId, transactionId, PackageTypeApi.UKSEF))
+                .thenReturn(Optional.of(entry));
+
+        assertEquals(entry, service.savePackageType(transactionId, accountsFilingId, "uksef"));
+        verify(accountsFilingRepository, times(1))
+                .findAndUpdatePackageType(accountsFilingId, transactionId, PackageTypeApi.UKSEF);
+    }
 
-        verify(accountsFilingRepository, times(1)).save(entry);
+    @Test
+    @DisplayName("Failed to save package type because no entry matched the id and transaction")
+    void testSavePackageTypeMissingEntry() {
+        var accountsFilingId = "accountsFilingId";
+        var transactionId = "transactionId";
+
+        when(accountsFilingRepository.findAndUpdatePackageType(accountsFilingId, transactionId, PackageTypeApi.UKSEF))
+                .thenReturn(Optional.empty());
+
+        assertThrows(EntryNotFoundException.class,
+                () -> service.savePackageType(transactionId, accountsFilingId, "uksef"));
     }
 
     @Test
     @DisplayName("Failed to save invalid package type to existing entry")
     void testSavePackageTypeBadPackageType() {
         var accountsFilingId = "accountsFilingId";
-        AccountsFilingEntry entry = new AccountsFilingEntry(accountsFilingId);
 
-        assertThrows(UriValidationException.class, () -> service.savePackageType(entry, "BAD TYPE"));
+        assertThrows(UriValidationException.class,
+                () -> service.savePackageType("transactionId", accountsFilingId, "BAD TYPE"));
+        verify(accountsFilingRepository, never()).findAndUpdatePackageType(any(), any(), any());
     }
 
     @Test
     @DisplayName("Testing validation of accounts filing data")
     void testValidateAccountsFilingEntry() {
         var accountFilingId = "accountsFilingId";
-        AccountsFilingEntry entry = new AccountsFilingEntry(accountFilingId);
+        FilingDetailsProjection entry = Projections.of(FilingDetailsProjection.class,
+                new AccountsFilingEntry(accountFilingId));
         ValidationStatusResponse validationStatusResponse = new ValidationStatusResponse();
         validationStatusResponse.setValidationStatusError(new ValidationStatusError[0]);
 
@@ -107,25 +132,78 @@ class AccountsFilingServiceTest {
     }
 
     @Test
-    @DisplayName("Testing whether IsTransactionAndAccountsFilingIdExists for true and false scenarios")
-    void testGetAccountsFilingEntryForIDAndTransaction() {
+    @DisplayName("Find accounts filing entry for matching transaction id")
+    void testFindAccountsFilingEntryForIDAndTransaction() {
         var accountsFilingId = "accountsFilingId";
         var transactionId = "transactionId";
-        AccountsFilingEntry entry = new AccountsFilingEntry(accountsFilingId, null,
-                null, null, transactionId, null, null, null);
-        // Test when accounts filing entry not found for given accounts filing id
-        when(accountsFilingRepository.findById(accountsFilingId)).thenReturn(Optional.empty());
-        assertThrows(EntryNotFoundException.class,
-                () -> service.getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId));
+        FilingDetailsProjection entry = Projections.of(FilingDetailsProjection.class, new AccountsFilingEntry(
+                accountsFilingId, null, null, null, transactionId, null, null, null));
+        when(accountsFilingRepository.findByAccountsFilingIdAndTransactionId(accountsFilingId, transactionId,
+                FilingDetailsProjection.class)).thenReturn(Optional.of(entry));
+
+        assertEquals(Optional.of(entry), service.findAccountsFilingEntryForIDAndTransaction(transactionId,
+                accountsFilingId, FilingDetailsProjection.class));
+        verify(accountsFilingRepository, never()).findById(any());
+    }
 
-        // Test when accounts filing entry found for given accounts filing id, but the
-        // transaction id doesn't match
-        when(accountsFilingRepository.findById(accountsFilingId)).thenReturn(Optional.of(entry));
-        assertThrows(EntryNotFoundException.class,
-                () -> service.getAccountsFilingEntryForIDAndTransaction("InvalidTransId", accountsFilingId));
+    @Test
+    @DisplayName("Find accounts filing entry is empty when the entry does not belong to the transaction")
+    void testFindAccountsFilingEntryForIDAndTransactionMismatch() {
+        var accountsFilingId = "accountsFilingId";
+        when(accountsFilingRepository.findByAccountsFilingIdAndTransactionId(accountsFilingId, "InvalidTransId",
+                FilingDetailsProjection.class)).thenReturn(Optional.empty());
+
+        assertTrue(service.findAccountsFilingEntryForIDAndTransaction("InvalidTransId", accountsFilingId,
+                FilingDetailsProjection.class).isEmpty());
+    }
 
-        // Test when
-        when(accountsFilingRepository.findById(accountsFilingId)).thenReturn(Optional.of(entry));
-        assertEquals(entry, service.getAccountsFilingEntryForIDAndTransaction(transactionId, accountsFilingId));
+    @Test
+    @DisplayName("Find accounts filing entry is empty without a query when there is no transaction id")
+    void testFindAccountsFilingEntryForIDAndTransactionNullTransaction() {
+        assertTrue(service.findAccountsFilingEntryForIDAndTransaction(null, "accountsFilingId",
+                FilingDetailsProjection.class).isEmpty());
+        verify(accountsFilingRepository, never()).findByAccountsFilingIdAndTransactionId(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Find every accounts filing entry of the transaction with one query")
+    void testFindAccountsFilingEntriesForTransaction() {
+        var transactionId = "transactionId";
+        FilingDetailsProjection entry = Projections.of(FilingDetailsProjection.class, new AccountsFilingEntry(
+                "accountsFilingId", null, null, null, transactionId, null, null, null));
+        when(accountsFilingRepository.findByTransactionIdOrderByAccountsFilingIdAsc(transactionId,
+                FilingDetailsProjection.class)).thenReturn(List.of(entry));
+
+        assertEquals(List.of(entry), service.findAccountsFilingEntriesForTransaction(transactionId,
+                FilingDetailsProjection.class));
+    }
+
+    @Test
+    @DisplayName("Find accounts filing entries is empty without a query when there is no transaction id")
+    void testFindAccountsFilingEntriesForTransactionNullTransaction() {
+        assertTrue(service.findAccountsFilingEntriesForTransaction(null, FilingDetailsProjection.class).isEmpty());
+        verify(accountsFilingRepository, never()).findByTransactionIdOrderByAccountsFilingIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Find the given accounts filing entries of the transaction with one query")
+    void testFindAccountsFilingEntriesForIDsAndTransaction() {
+        var transactionId = "transactionId";
+        FilingDetailsProjection entry = Projections.of(FilingDetailsProjection.class, new AccountsFilingEntry(
+                "accountsFilingId", null, null, null, transactionId, null, null, null));
+        when(accountsFilingRepository.findByTransactionIdAndAccountsFilingIdInOrderByAccountsFilingIdAsc(transactionId,
+                List.of("accountsFilingId", "otherId"), FilingDetailsProjection.class)).thenReturn(List.of(entry));
+
+        assertEquals(List.of(entry), service.findAccountsFilingEntriesForIDsAndTransaction(transactionId,
+                List.of("accountsFilingId", "otherId"), FilingDetailsProjection.class));
+    }
+
+    @Test
+    @DisplayName("Find accounts filing entries by ids is empty without a query when there are no ids")
+    void testFindAccountsFilingEntriesForIDsAndTransactionNoIds() {
+        assertTrue(service.findAccountsFilingEntriesForIDsAndTransaction("transactionId", List.of(),
+                FilingDetailsProjection.class).isEmpty());
+        verify(accountsFilingRepository, never())
+                .findByTransactionIdAndAccountsFilingIdInOrderByAccountsFilingIdAsc(any(), any(), any());
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.FilingDetailsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
 import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusError;
 import uk.gov.companieshouse.api.model.validationstatus.ValidationStatusResponse;
@@ -250,7 +252,7 @@ class AccountsFilingValidatorTest {
     }
 
     void validateAccountsFilingEntry(AccountsFilingEntry entry) {
-        validationStatusResponse = filingValidator.validateAccountsFilingEntry(entry);
+        validationStatusResponse = filingValidator.validateAccountsFilingEntry(Projections.of(FilingDetailsProjection.class, entry));
     }
 
     void assertValidationFailedWithError(String expectedErrorMessage) {
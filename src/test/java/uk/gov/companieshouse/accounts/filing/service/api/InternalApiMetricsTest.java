@@ -0,0 +1,102 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.companieshouse.api.error.ApiErrorResponseException;
+import uk.gov.companieshouse.api.handler.exception.URIValidationException;
+import uk.gov.companieshouse.api.model.ApiResponse;
+
+class InternalApiMetricsTest {
+
+    private static final String API = "transactions";
+
+    SimpleMeterRegistry meterRegistry;
+
+    InternalApiMetrics internalApiMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        internalApiMetrics = new InternalApiMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Call is counted as active while it runs and not after it returns")
+    void testTrackCountsActiveCall() throws Exception {
+        ApiResponse<Void> expectedResponse = new ApiResponse<>(204, new HashMap<>());
+
+        ApiResponse<Void> response = internalApiMetrics.track(API, () -> {
+            assertEquals(1, activeTasks());
+            return expectedResponse;
+        });
+
+        assertEquals(expectedResponse, response);
+        assertEquals(0, activeTasks());
+        assertEquals(1, timedCalls(InternalApiMetrics.OUTCOME_SUCCESS));
+    }
+
+    @Test
+    @DisplayName("Call is no longer counted as active after it throws")
+    void testTrackStopsOnException() {
+        assertThrows(URIValidationException.class, () -> internalApiMetrics.track(API, () -> {
+            throw mock(URIValidationException.class);
+        }));
+
+        assertEquals(0, activeTasks());
+        assertEquals(1, timedCalls(InternalApiMetrics.OUTCOME_INVALID_URI));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "404,CLIENT_ERROR",
+            "500,SERVER_ERROR",
+            "503,SERVER_ERROR"
+    })
+    @DisplayName("Error responses are timed with the outcome of their status")
+    void testTrackRecordsErrorOutcome(int statusCode, String expectedOutcome) {
+        ApiErrorResponseException exception = mock(ApiErrorResponseException.class);
+        when(exception.getStatusCode()).thenReturn(statusCode);
+
+        assertThrows(ApiErrorResponseException.class, () -> internalApiMetrics.track(API, () -> {
+            throw exception;
+        }));
+
+        assertEquals(1, timedCalls(expectedOutcome));
+    }
+
+    @Test
+    @DisplayName("Connection pool use is reported by gauges read from the pool")
+    void testMonitorPool() {
+        PoolingHttpClientConnectionManager pool = mock(PoolingHttpClientConnectionManager.class);
+        when(pool.getTotalStats()).thenReturn(new PoolStats(3, 2, 1, 20));
+
+        internalApiMetrics.monitorPool(pool);
+
+        assertEquals(3, meterRegistry.get(InternalApiMetrics.POOL_CONNECTIONS).tag("state", "leased").gauge().value());
+        assertEquals(1, meterRegistry.get(InternalApiMetrics.POOL_CONNECTIONS).tag("state", "available").gauge().value());
+        assertEquals(2, meterRegistry.get(InternalApiMetrics.POOL_PENDING).gauge().value());
+        assertEquals(20, meterRegistry.get(InternalApiMetrics.POOL_MAX).gauge().value());
+    }
+
+    private long timedCalls(String outcome) {
+        return meterRegistry.get(InternalApiMetrics.REQUESTS).tag("api", API).tag("outcome", outcome).timer().count();
+    }
+
+    private int activeTasks() {
+        return meterRegistry.get(InternalApiMetrics.ACTIVE_REQUESTS).tag("api", API).longTaskTimer().activeTasks();
+    }
+}
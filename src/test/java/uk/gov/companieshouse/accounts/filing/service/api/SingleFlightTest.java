@@ -0,0 +1,135 @@
+package uk.gov.companieshouse.accounts.filing.service.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final String API = "accounts-validator";
+
+    private static final int CALLERS = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight singleFlight;
+
+    private ExecutorService executor;
+
+    private CountDownLatch release;
+
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+        calls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent callers for the same key share one call and its result")
+    void testConcurrentCallersShareOneCall() throws Exception {
+        List<Future<String>> results = startCallers("fileId", () -> {
+            calls.incrementAndGet();
+            await();
+            return "result";
+        });
+
+        release.countDown();
+        for (Future<String> result : results) {
+            assertEquals("result", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1.0, count(false));
+        assertEquals(CALLERS - 1.0, count(true));
+    }
+
+    @Test
+    @DisplayName("Concurrent callers for the same key share the exception of the call")
+    void testConcurrentCallersShareException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("validator down");
+        List<Future<String>> results = startCallers("fileId", () -> {
+            await();
+            throw failure;
+        });
+
+        release.countDown();
+        for (Future<String> result : results) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Calls for different keys, and calls made after one returns, are not coalesced")
+    void testCallsNotCoalesced() {
+        assertEquals("a", singleFlight.call(API, "a", () -> "a"));
+        assertEquals("b", singleFlight.call(API, "b", () -> "b"));
+        assertEquals("a2", singleFlight.call(API, "a", () -> "a2"));
+
+        assertEquals(3.0, count(false));
+        assertEquals(0.0, count(true));
+    }
+
+    /**
+     * Starts one caller, waits for it to be in flight, then starts the rest and waits until they
+     * have all joined it.
+     */
+    private List<Future<String>> startCallers(String key, Supplier<String> call)
+            throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.call(API, key, call)));
+        waitFor(() -> count(false) == 1.0);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.call(API, key, call)));
+        }
+        waitFor(() -> count(true) == CALLERS - 1.0);
+        return results;
+    }
+
+    private void await() {
+        try {
+            release.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double count(boolean coalesced) {
+        return meterRegistry.counter(SingleFlight.CALLS, "api", API, "coalesced", String.valueOf(coalesced)).count();
+    }
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.projection.CostsProjection;
+import uk.gov.companieshouse.accounts.filing.model.projection.Projections;
+import uk.gov.companieshouse.accounts.filing.template.PackageTypeTemplates;
 import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
 import uk.gov.companieshouse.api.model.payment.Cost;
 import java.util.List;
@@ -40,7 +42,8 @@ public class CostsServiceTest {
 
     @BeforeEach
     void setUp(){
-        costsService = new CostsServiceImpl();
+        costsService = new CostsServiceImpl(
+                new PackageTypeTemplates(cicAccountsFee, overseasAccountsFee, "scheme", "bucket"));
         accountsFilingEntry = new AccountsFilingEntry("", "", "", null, "", "", "", "");
     }
 
@@ -48,25 +51,39 @@ public class CostsServiceTest {
     @DisplayName("Test calculateCosts returns £15 fee for CIC account")
     void testCalculateCostsForCicAccount(){
         accountsFilingEntry.setPackageType(PackageTypeApi.CIC);
-        ReflectionTestUtils.setField(costsService, "cicAccountsFee", cicAccountsFee);
-        List<Cost> costs = costsService.calculateCosts(accountsFilingEntry);
-        assertFeeAndDefaultValues(costs, cicAccountsFee, CostsServiceImpl.CIC_PRODUCT_TYPE, CostsServiceImpl.CIC_RESOURCE_KIND );
+        List<Cost> costs = costsService.calculateCosts(Projections.of(CostsProjection.class, accountsFilingEntry));
+        assertFeeAndDefaultValues(costs, cicAccountsFee, PackageTypeTemplates.CIC_PRODUCT_TYPE, PackageTypeTemplates.CIC_RESOURCE_KIND );
     }
 
     @Test
     @DisplayName("Test calculateCosts returns £33 fee for Overseas account")
     void testCalculateCostsForOverseasAccount(){
         accountsFilingEntry.setPackageType(PackageTypeApi.OVERSEAS);
-        ReflectionTestUtils.setField(costsService, "overseasAccountsFee", overseasAccountsFee);
-        List<Cost> costs = costsService.calculateCosts(accountsFilingEntry);
-        assertFeeAndDefaultValues(costs, overseasAccountsFee, CostsServiceImpl.OVERSEAS_PRODUCT_TYPE, CostsServiceImpl.OVERSEAS_RESOURCE_KIND);
+        List<Cost> costs = costsService.calculateCosts(Projections.of(CostsProjection.class, accountsFilingEntry));
+        assertFeeAndDefaultValues(costs, overseasAccountsFee, PackageTypeTemplates.OVERSEAS_PRODUCT_TYPE, PackageTypeTemplates.OVERSEAS_RESOURCE_KIND);
     }
 
     @Test
     @DisplayName("Test calculateCosts returns empty cost for other accounts")
     void testCalculateCostsForOtherAccounts(){
         accountsFilingEntry.setPackageType(PackageTypeApi.WELSH);
-        List<Cost> costs = costsService.calculateCosts(accountsFilingEntry);
+        List<Cost> costs = costsService.calculateCosts(Projections.of(CostsProjection.class, accountsFilingEntry));
+        Assertions.assertTrue(costs.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test calculateCosts describes the payment with the package type and company name")
+    void testCalculateCostsDescription(){
+        accountsFilingEntry = new AccountsFilingEntry("", "", "", PackageTypeApi.CIC, "", "", "Test Company", "");
+        List<Cost> costs = costsService.calculateCosts(Projections.of(CostsProjection.class, accountsFilingEntry));
+        Assertions.assertEquals("Payment for " + PackageTypeApi.CIC + " Package Accounts for Test Company",
+                costs.getFirst().getDescription());
+    }
+
+    @Test
+    @DisplayName("Test calculateCosts returns empty cost when the package type is not set")
+    void testCalculateCostsWithoutPackageType(){
+        List<Cost> costs = costsService.calculateCosts(Projections.of(CostsProjection.class, accountsFilingEntry));
         Assertions.assertTrue(costs.isEmpty());
     }
 
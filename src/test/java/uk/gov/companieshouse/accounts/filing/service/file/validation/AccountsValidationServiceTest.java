@@ -3,26 +3,45 @@ package uk.gov.companieshouse.accounts.filing.service.file.validation;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.EntryNotFoundException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceException;
 import uk.gov.companieshouse.accounts.filing.exceptionhandler.ResponseException;
 import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.accounts.filing.model.FileValidationFields;
 import uk.gov.companieshouse.accounts.filing.repository.AccountsFilingRepository;
+import uk.gov.companieshouse.accounts.filing.repository.VersionConflictRetry;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiResilience;
+import uk.gov.companieshouse.accounts.filing.service.api.SingleFlight;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.ApiResponse;
@@ -48,9 +67,26 @@ class AccountsValidationServiceTest {
     @Mock
     AccountsValidatorAPI api;
 
+    ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Spy
+    InternalApiResilience internalApiResilience = new InternalApiResilience(CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), requestExecutor);
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Spy
+    VersionConflictRetry versionConflictRetry = new VersionConflictRetry(meterRegistry, 3);
+
     @InjectMocks
     AccountsValidationServiceImpl service;
 
+    @Captor
+    ArgumentCaptor<FileValidationFields> fieldsCaptor;
+
     @Test
     @DisplayName("Get account filing entry from DB.")
     void testGetFilingEntry() {
@@ -98,12 +134,18 @@ class AccountsValidationServiceTest {
         AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, fileName, accountStatus, 
                                                                                               validationStatus, accountsValidatorStatusApi);
 
-        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
-        Assertions.assertEquals("04", accountsFilingEntryRequest.getAccountsType());
-        Assertions.assertEquals(fileId, accountsFilingEntryRequest.getFileId());
-        Assertions.assertEquals(balanceSheetDate, accountsFilingEntryRequest.getMadeUpDate());
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), fieldsCaptor.capture()))
+                .thenReturn(true);
 
-        verify(accountsFilingRepository, times(1)).save(accountsFilingEntryRequest);
+        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
+        Assertions.assertEquals("04", fieldsCaptor.getValue().accountsType());
+        Assertions.assertEquals(fileId, fieldsCaptor.getValue().fileId());
+        Assertions.assertEquals(balanceSheetDate, fieldsCaptor.getValue().madeUpDate());
+        Assertions.assertNull(accountsFilingEntryRequest.getFileId());
+        Assertions.assertNull(accountsFilingEntryRequest.getAccountsType());
+
+        verify(accountsFilingRepository, times(1)).updateFileValidationResult(eq("accountFilingId"), isNull(),
+                any(FileValidationFields.class));
     }
 
     @Test
@@ -125,12 +167,16 @@ class AccountsValidationServiceTest {
         AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, fileName, accountStatus,
                 validationStatus, accountsValidatorStatusApi);
 
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), fieldsCaptor.capture()))
+                .thenReturn(true);
+
         service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
-        Assertions.assertEquals(accountType, accountsFilingEntryRequest.getAccountsType());
-        Assertions.assertEquals(fileId, accountsFilingEntryRequest.getFileId());
-        Assertions.assertEquals(balanceSheetDate, accountsFilingEntryRequest.getMadeUpDate());
+        Assertions.assertEquals(accountType, fieldsCaptor.getValue().accountsType());
+        Assertions.assertEquals(fileId, fieldsCaptor.getValue().fileId());
+        Assertions.assertEquals(balanceSheetDate, fieldsCaptor.getValue().madeUpDate());
 
-        verify(accountsFilingRepository, times(1)).save(accountsFilingEntryRequest);
+        verify(accountsFilingRepository, times(1)).updateFileValidationResult(eq("accountFilingId"), isNull(),
+                any(FileValidationFields.class));
     }
 
     @Test
@@ -151,12 +197,164 @@ class AccountsValidationServiceTest {
         AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, fileName, accountStatus,
                 validationStatus, accountsValidatorStatusApi);
 
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), fieldsCaptor.capture()))
+                .thenReturn(true);
+
+        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
+        Assertions.assertEquals(accountType, fieldsCaptor.getValue().accountsType());
+        Assertions.assertEquals(fileId, fieldsCaptor.getValue().fileId());
+        Assertions.assertNull(fieldsCaptor.getValue().madeUpDate());
+
+        verify(accountsFilingRepository, times(1)).updateFileValidationResult(eq("accountFilingId"), isNull(),
+                any(FileValidationFields.class));
+    }
+
+    @Test
+    @DisplayName("Store a completed validation result on the filing entry")
+    void testSaveFileValidationResultStoresCompletedResult() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+
+        AccountsValidatorDataApi accountsValidatorDataApi = createAccountsValidatorDataApi("2021-01-30", "accountType", "0");
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "complete",
+                AccountsValidatorValidationStatusApi.OK, accountsValidatorDataApi);
+
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), fieldsCaptor.capture()))
+                .thenReturn(true);
+
+        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
+
+        Assertions.assertEquals(accountsValidatorStatus, fieldsCaptor.getValue().validationResult());
+        verify(accountsFilingRepository, times(1)).updateFileValidationResult(eq("accountFilingId"), isNull(),
+                any(FileValidationFields.class));
+    }
+
+    @Test
+    @DisplayName("Store a validation result that ended in error on the filing entry")
+    void testSaveFileValidationResultStoresErrorResult() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+
+        AccountsValidatorDataApi accountsValidatorDataApi = createAccountsValidatorDataApi("2021-01-30", "accountType", "0");
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "error",
+                AccountsValidatorValidationStatusApi.OK, accountsValidatorDataApi);
+
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), fieldsCaptor.capture()))
+                .thenReturn(true);
+
         service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
-        Assertions.assertEquals(accountType, accountsFilingEntryRequest.getAccountsType());
-        Assertions.assertEquals(fileId, accountsFilingEntryRequest.getFileId());
-        Assertions.assertNull(accountsFilingEntryRequest.getMadeUpDate());
 
-        verify(accountsFilingRepository, times(1)).save(accountsFilingEntryRequest);
+        Assertions.assertEquals(accountsValidatorStatus, fieldsCaptor.getValue().validationResult());
+        verify(accountsFilingRepository, times(1)).updateFileValidationResult(eq("accountFilingId"), isNull(),
+                any(FileValidationFields.class));
+    }
+
+    @Test
+    @DisplayName("Failed to save validation result because the entry no longer exists")
+    void testSaveFileValidationResultMissingEntry() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "OK",
+                AccountsValidatorValidationStatusApi.OK, createAccountsValidatorDataApi("2021-01-30", "accountType", "0"));
+
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), any(FileValidationFields.class)))
+                .thenReturn(false);
+
+        assertThrows(EntryNotFoundException.class,
+                () -> service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus));
+    }
+
+    @Test
+    @DisplayName("Apply the validation result again to the stored entry when it was updated concurrently")
+    void testSaveFileValidationResultRetriesAfterConflict() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+        AccountsFilingEntry storedEntry = new AccountsFilingEntry("accountFilingId");
+        storedEntry.setPackageType(PackageTypeApi.OVERSEAS);
+        storedEntry.setMadeUpDate("2020-12-31");
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "complete",
+                AccountsValidatorValidationStatusApi.OK, createAccountsValidatorDataApi("2021-01-30", "accountType", "0"));
+
+        when(accountsFilingRepository.updateFileValidationResult(anyString(), any(), any(FileValidationFields.class))).thenReturn(false, true);
+        when(accountsFilingRepository.findById("accountFilingId")).thenReturn(Optional.of(storedEntry));
+
+        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
+
+        verify(accountsFilingRepository, times(2)).updateFileValidationResult(eq("accountFilingId"), isNull(),
+                fieldsCaptor.capture());
+        Assertions.assertEquals(fileId, fieldsCaptor.getValue().fileId());
+        Assertions.assertEquals("2020-12-31", fieldsCaptor.getValue().madeUpDate());
+        Assertions.assertEquals(1.0, meterRegistry.counter(VersionConflictRetry.CONFLICTS,
+                "operation", "save_file_validation_result").count());
+        Assertions.assertEquals(1.0, meterRegistry.counter(VersionConflictRetry.RETRIES,
+                "operation", "save_file_validation_result").count());
+    }
+
+    @Test
+    @DisplayName("Give up saving the validation result when every attempt conflicts")
+    void testSaveFileValidationResultConflictsExhausted() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "complete",
+                AccountsValidatorValidationStatusApi.OK, createAccountsValidatorDataApi("2021-01-30", "accountType", "0"));
+
+        when(accountsFilingRepository.updateFileValidationResult(anyString(), any(), any(FileValidationFields.class))).thenReturn(false);
+        when(accountsFilingRepository.findById("accountFilingId"))
+                .thenAnswer(invocation -> Optional.of(new AccountsFilingEntry("accountFilingId")));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus));
+
+        verify(accountsFilingRepository, times(3)).updateFileValidationResult(anyString(), any(),
+                any(FileValidationFields.class));
+        Assertions.assertEquals(3.0, meterRegistry.counter(VersionConflictRetry.CONFLICTS,
+                "operation", "save_file_validation_result").count());
+        Assertions.assertEquals(2.0, meterRegistry.counter(VersionConflictRetry.RETRIES,
+                "operation", "save_file_validation_result").count());
+    }
+
+    @Test
+    @DisplayName("Skip the save when the validation result does not change the entry")
+    void testSaveFileValidationResultUnchangedEntry() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        String balanceSheetDate = "2021-01-30";
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "complete",
+                AccountsValidatorValidationStatusApi.OK, createAccountsValidatorDataApi(balanceSheetDate, "accountType", "0"));
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+        accountsFilingEntryRequest.setFileId(fileId);
+        accountsFilingEntryRequest.setAccountsType("04");
+        accountsFilingEntryRequest.setMadeUpDate(balanceSheetDate);
+        accountsFilingEntryRequest.setValidationResult(accountsValidatorStatus);
+
+        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
+
+        verify(accountsFilingRepository, never()).updateFileValidationResult(anyString(), any(), any(FileValidationFields.class));
+    }
+
+    @Test
+    @DisplayName("Do not store a validation result that is still pending")
+    void testSaveFileValidationResultDoesNotStorePendingResult() {
+        String fileId = "aaaaaaaa-caaa-aaae-aaaa-111f4a118111";
+        AccountsFilingEntry accountsFilingEntryRequest = new AccountsFilingEntry("accountFilingId");
+        accountsFilingEntryRequest.setPackageType(PackageTypeApi.UKSEF);
+
+        AccountsValidatorDataApi accountsValidatorDataApi = createAccountsValidatorDataApi("2021-01-30", "accountType", "0");
+        AccountsValidatorStatusApi accountsValidatorStatus = createAccountsValidatorStatusApi(fileId, "fileName", "pending",
+                AccountsValidatorValidationStatusApi.OK, accountsValidatorDataApi);
+
+        when(accountsFilingRepository.updateFileValidationResult(eq("accountFilingId"), isNull(), fieldsCaptor.capture()))
+                .thenReturn(true);
+
+        service.saveFileValidationResult(accountsFilingEntryRequest, accountsValidatorStatus);
+
+        Assertions.assertNull(fieldsCaptor.getValue().validationResult());
+        Assertions.assertNull(accountsFilingEntryRequest.getValidationResult());
     }
 
     @Test
@@ -169,12 +367,45 @@ class AccountsValidationServiceTest {
         when(api.getValidationCheck(fileId)).thenReturn(mockResponse);
         when(mockResponse.getData()).thenReturn(mockValidationStatus);
 
-        Optional<AccountsValidatorStatusApi> optionalResponse = service.validationStatusResult(fileId);
+        Optional<AccountsValidatorStatusApi> optionalResponse = service.validationStatusResult(new AccountsFilingEntry("accountFilingId"), fileId);
 
         assertThat(optionalResponse, is(Optional.of(mockValidationStatus)));
 
     }
 
+    @Test
+    @DisplayName("Return the stored validation result without calling the account validator")
+    void testValidationStatusResultFromStoredResult() throws ApiErrorResponseException, URIValidationException {
+        String fileId = "fileId";
+        AccountsFilingEntry filingEntry = new AccountsFilingEntry("accountFilingId");
+        AccountsValidatorStatusApi storedResult = createAccountsValidatorStatusApi(fileId, "fileName", "complete",
+                AccountsValidatorValidationStatusApi.OK, createAccountsValidatorDataApi("2021-01-30", "accountType", "0"));
+        filingEntry.setValidationResult(storedResult);
+
+        Optional<AccountsValidatorStatusApi> optionalResponse = service.validationStatusResult(filingEntry, fileId);
+
+        assertThat(optionalResponse, is(Optional.of(storedResult)));
+        verify(api, never()).getValidationCheck(anyString());
+    }
+
+    @Test
+    @DisplayName("Call validation check when the stored result belongs to a different file")
+    void testValidationStatusResultStoredResultForDifferentFile() throws ApiErrorResponseException, URIValidationException {
+        String fileId = "fileId";
+        AccountsFilingEntry filingEntry = new AccountsFilingEntry("accountFilingId");
+        filingEntry.setValidationResult(createAccountsValidatorStatusApi("previousFileId", "fileName", "complete",
+                AccountsValidatorValidationStatusApi.OK, createAccountsValidatorDataApi("2021-01-30", "accountType", "0")));
+
+        AccountsValidatorStatusApi mockValidationStatus = mock(AccountsValidatorStatusApi.class);
+        when(api.getValidationCheck(fileId)).thenReturn(mockResponse);
+        when(mockResponse.getData()).thenReturn(mockValidationStatus);
+
+        Optional<AccountsValidatorStatusApi> optionalResponse = service.validationStatusResult(filingEntry, fileId);
+
+        assertThat(optionalResponse, is(Optional.of(mockValidationStatus)));
+        verify(api, times(1)).getValidationCheck(fileId);
+    }
+
     @Test
     @DisplayName("Call validation check and file is not found and returns empty optional")
     void testValidationStatusResultMissingFile() throws ApiErrorResponseException, URIValidationException {
@@ -182,7 +413,7 @@ class AccountsValidationServiceTest {
 
         when(api.getValidationCheck(fileId)).thenReturn(mockResponse);
 
-        Optional<AccountsValidatorStatusApi> optionalResponse = service.validationStatusResult(fileId);
+        Optional<AccountsValidatorStatusApi> optionalResponse = service.validationStatusResult(new AccountsFilingEntry("accountFilingId"), fileId);
 
         assertThat(optionalResponse, is(Optional.empty()));
     }
@@ -196,7 +427,7 @@ class AccountsValidationServiceTest {
         when(responseException.getStatusCode()).thenReturn(401);
         when(api.getValidationCheck(fileId)).thenThrow(responseException);
 
-        assertThrows(ResponseException.class, () -> service.validationStatusResult(fileId));
+        assertThrows(ResponseException.class, () -> service.validationStatusResult(new AccountsFilingEntry("accountFilingId"), fileId));
     }
 
     @Test
@@ -208,7 +439,7 @@ class AccountsValidationServiceTest {
         when(responseException.getStatusCode()).thenReturn(500);
         when(api.getValidationCheck(fileId)).thenThrow(responseException);
 
-        assertThrows(ExternalServiceException.class, () -> service.validationStatusResult(fileId));
+        assertThrows(ExternalServiceException.class, () -> service.validationStatusResult(new AccountsFilingEntry("accountFilingId"), fileId));
     }
 
     private AccountsValidatorDataApi createAccountsValidatorDataApi(String date, String accountType, String requestedNumber){
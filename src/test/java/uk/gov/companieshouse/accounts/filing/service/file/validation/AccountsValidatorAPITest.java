@@ -15,6 +15,8 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiMetrics;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.handler.accountvalidator.PrivateAccountsValidatorResourceHandler;
@@ -42,7 +44,7 @@ class AccountsValidatorAPITest {
 
     @BeforeEach
     void setUp() {
-        this.api = new AccountsValidatorAPI(internalApiClient);
+        this.api = new AccountsValidatorAPI(internalApiClient, new InternalApiMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
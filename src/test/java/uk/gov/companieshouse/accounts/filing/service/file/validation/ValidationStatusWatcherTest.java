@@ -0,0 +1,190 @@
+package uk.gov.companieshouse.accounts.filing.service.file.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceException;
+import uk.gov.companieshouse.accounts.filing.model.AccountsFilingEntry;
+import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationStatusWatcherTest {
+
+    private static final String FILE_ID = "11111111-1111-1111-1111-111111111111";
+
+    private static final AccountsValidatorStatusApi PENDING =
+            new AccountsValidatorStatusApi(FILE_ID, "fileName", "pending", null);
+
+    private static final AccountsValidatorStatusApi COMPLETE =
+            new AccountsValidatorStatusApi(FILE_ID, "fileName", "complete", null);
+
+    private static final AccountsValidatorStatusApi FAILED =
+            new AccountsValidatorStatusApi(FILE_ID, "fileName", "failed", null);
+
+    @Mock
+    AccountsValidationService accountsValidationService;
+
+    ScheduledExecutorService scheduler;
+
+    AccountsFilingEntry accountsFilingEntry;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        accountsFilingEntry = new AccountsFilingEntry("accountsFilingId");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Waiters on the same file share one polling loop and are answered when the result is complete")
+    void testWaitersShareOnePollingLoop() throws Exception {
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenReturn(Optional.of(PENDING), Optional.of(PENDING), Optional.of(COMPLETE));
+        ValidationStatusWatcher watcher = watcher(Duration.ofSeconds(5));
+
+        CompletableFuture<Optional<AccountsValidatorStatusApi>> first = watcher.await(accountsFilingEntry, FILE_ID);
+        CompletableFuture<Optional<AccountsValidatorStatusApi>> second = watcher.await(accountsFilingEntry, FILE_ID);
+
+        assertEquals(Optional.of(COMPLETE), first.get(1, TimeUnit.SECONDS));
+        assertEquals(Optional.of(COMPLETE), second.get(1, TimeUnit.SECONDS));
+        verify(accountsValidationService, times(3)).validationStatusResult(accountsFilingEntry, FILE_ID);
+    }
+
+    @Test
+    @DisplayName("Polling stops at any terminal status, not only complete")
+    void testPollingStopsAtFailedStatus() throws Exception {
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenReturn(Optional.of(PENDING), Optional.of(FAILED));
+        ValidationStatusWatcher watcher = watcher(Duration.ofSeconds(5));
+
+        assertEquals(Optional.of(FAILED), watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+        verify(accountsValidationService, times(2)).validationStatusResult(accountsFilingEntry, FILE_ID);
+    }
+
+    @Test
+    @DisplayName("A waiter is answered with the latest result once its deadline passes")
+    void testWaiterAnsweredAtDeadline() throws Exception {
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenReturn(Optional.of(PENDING));
+        ValidationStatusWatcher watcher = watcher(Duration.ofMillis(50));
+
+        assertEquals(Optional.of(PENDING), watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A failed poll fails every waiter and a later waiter starts a new loop")
+    void testFailedPoll() throws Exception {
+        ExternalServiceException failure = new ExternalServiceException("validator down");
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenThrow(failure)
+                .thenReturn(Optional.of(COMPLETE));
+        ValidationStatusWatcher watcher = watcher(Duration.ofSeconds(5));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+        assertEquals(Optional.of(COMPLETE), watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("An error thrown by a poll fails every waiter and a later waiter starts a new loop")
+    void testPollError() throws Exception {
+        AssertionError failure = new AssertionError("unexpected");
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenThrow(failure)
+                .thenReturn(Optional.of(COMPLETE));
+        ValidationStatusWatcher watcher = watcher(Duration.ofSeconds(5));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+        assertEquals(Optional.of(COMPLETE), watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A poll the request executor rejects fails the waiter and a later waiter starts a new loop")
+    void testRejectedPoll() throws Exception {
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenReturn(Optional.of(COMPLETE));
+        AtomicBoolean reject = new AtomicBoolean(true);
+        Executor requestExecutor = command -> {
+            if (reject.getAndSet(false)) {
+                throw new RejectedExecutionException("shutting down");
+            }
+            command.run();
+        };
+        ValidationStatusWatcher watcher = watcher(requestExecutor, Duration.ofSeconds(5));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+        assertEquals(RejectedExecutionException.class, thrown.getCause().getClass());
+        assertEquals(Optional.of(COMPLETE), watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A next poll the scheduler rejects fails the waiters still on the loop")
+    void testRejectedSchedule() throws Exception {
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenReturn(Optional.of(PENDING));
+        scheduler.shutdownNow();
+        ValidationStatusWatcher watcher = watcher(Duration.ofSeconds(5));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> watcher.await(accountsFilingEntry, FILE_ID).get(1, TimeUnit.SECONDS));
+        assertEquals(RejectedExecutionException.class, thrown.getCause().getClass());
+    }
+
+    @Test
+    @DisplayName("Waiters on the same file of different filing entries each poll with their own entry")
+    void testWaitersOfDifferentEntriesDoNotShareLoop() throws Exception {
+        AccountsFilingEntry otherEntry = new AccountsFilingEntry("otherAccountsFilingId");
+        when(accountsValidationService.validationStatusResult(accountsFilingEntry, FILE_ID))
+                .thenReturn(Optional.of(PENDING), Optional.of(COMPLETE));
+        when(accountsValidationService.validationStatusResult(otherEntry, FILE_ID))
+                .thenReturn(Optional.of(FAILED));
+        ValidationStatusWatcher watcher = watcher(Duration.ofSeconds(5));
+
+        CompletableFuture<Optional<AccountsValidatorStatusApi>> first = watcher.await(accountsFilingEntry, FILE_ID);
+        CompletableFuture<Optional<AccountsValidatorStatusApi>> other = watcher.await(otherEntry, FILE_ID);
+
+        assertEquals(Optional.of(COMPLETE), first.get(1, TimeUnit.SECONDS));
+        assertEquals(Optional.of(FAILED), other.get(1, TimeUnit.SECONDS));
+        verify(accountsValidationService, times(1)).validationStatusResult(otherEntry, FILE_ID);
+    }
+
+    private ValidationStatusWatcher watcher(Duration timeout) {
+        return watcher(Runnable::run, timeout);
+    }
+
+    private ValidationStatusWatcher watcher(Executor requestExecutor, Duration timeout) {
+        return new ValidationStatusWatcher(accountsValidationService, scheduler, requestExecutor, timeout,
+                Duration.ofMillis(10), Duration.ofMillis(20));
+    }
+}
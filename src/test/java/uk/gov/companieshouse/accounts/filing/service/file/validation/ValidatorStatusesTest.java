@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.accounts.filing.service.file.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import uk.gov.companieshouse.api.model.accountvalidator.AccountsValidatorStatusApi;
+
+class ValidatorStatusesTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "complete, true",
+            "COMPLETE, true",
+            "error, true",
+            "failed, true",
+            "pending, false",
+            "in_progress, false",
+            "null, false"
+    }, nullValues = "null")
+    void testIsTerminal(String status, boolean terminal) {
+        assertEquals(terminal, ValidatorStatuses.isTerminal(
+                new AccountsValidatorStatusApi("fileId", "fileName", status, null)));
+    }
+}
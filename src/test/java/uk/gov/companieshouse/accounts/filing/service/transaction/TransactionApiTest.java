@@ -11,7 +11,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import uk.gov.companieshouse.accounts.filing.service.api.ApiClientService;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiMetrics;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.handler.privatetransaction.PrivateTransactionResourceHandler;
 import uk.gov.companieshouse.api.handler.privatetransaction.request.PrivateTransactionGet;
@@ -50,7 +52,7 @@ public class TransactionApiTest {
 
     @BeforeEach
     void setup() {
-        transactionAPI = new TransactionAPI(apiClientService);
+        transactionAPI = new TransactionAPI(apiClientService, new InternalApiMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -0,0 +1,286 @@
+package uk.gov.companieshouse.accounts.filing.service.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uk.gov.companieshouse.accounts.filing.configuration.InternalApiHttpConfiguration;
+import uk.gov.companieshouse.accounts.filing.exceptionhandler.ExternalServiceException;
+import uk.gov.companieshouse.accounts.filing.service.api.ApiClientService;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiClientFactory;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiFailurePredicate;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiMetrics;
+import uk.gov.companieshouse.accounts.filing.service.api.InternalApiResilience;
+import uk.gov.companieshouse.accounts.filing.utils.constant.Constants;
+import uk.gov.companieshouse.logging.Logger;
+
+/**
+ * Runs the transaction service against a local stub of the transactions API that can be made
+ * slow or failing, to check the circuit breaker, time limiter and bulkhead around it.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionServiceResilienceTest {
+
+    private static final String TRANSACTION_ID = "000000-123456-000000";
+    private static final Duration SLOW_CALL_THRESHOLD = Duration.ofMillis(100);
+    private static final Duration TIMEOUT = Duration.ofMillis(1500);
+
+    @Mock
+    Logger logger;
+
+    HttpServer stubServer;
+
+    AtomicInteger requestCount;
+
+    CountDownLatch requestReceived;
+
+    volatile int responseStatus;
+
+    volatile long responseDelayMillis;
+
+    volatile String requestId;
+
+    PoolingHttpClientConnectionManager connectionManager;
+
+    CloseableHttpClient httpClient;
+
+    CircuitBreakerRegistry circuitBreakerRegistry;
+
+    ExecutorService requestExecutor;
+
+    TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        requestCount = new AtomicInteger();
+        requestReceived = new CountDownLatch(1);
+        responseStatus = 200;
+        responseDelayMillis = 0;
+
+        stubServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        stubServer.createContext("/", exchange -> {
+            requestCount.incrementAndGet();
+            requestId = exchange.getRequestHeaders().getFirst(Constants.ERIC_REQUEST_ID_KEY);
+            requestReceived.countDown();
+            sleep(responseDelayMillis);
+            final byte[] body = String.format("{\"id\":\"%s\"}", TRANSACTION_ID).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+
+        final String stubUrl = String.format("http://%s:%d", stubServer.getAddress().getHostString(),
+                stubServer.getAddress().getPort());
+        final InternalApiMetrics internalApiMetrics = new InternalApiMetrics(new SimpleMeterRegistry());
+        final InternalApiHttpConfiguration httpConfiguration = new InternalApiHttpConfiguration();
+        connectionManager = httpConfiguration.internalApiConnectionManager(10, 10, internalApiMetrics);
+        httpClient = httpConfiguration.internalApiHttpClient(connectionManager, Duration.ofSeconds(30));
+        final InternalApiClientFactory internalApiClientFactory = new InternalApiClientFactory("apiKey", stubUrl,
+                httpConfiguration.internalApiHttpTransport(httpClient), Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .slowCallDurationThreshold(SLOW_CALL_THRESHOLD)
+                .slowCallRateThreshold(100)
+                .failureRateThreshold(100)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(new InternalApiFailurePredicate())
+                .build());
+        final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        final TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                .timeoutDuration(TIMEOUT)
+                .cancelRunningFuture(true)
+                .build());
+        requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        final TransactionAPI transactionAPI = new TransactionAPI(
+                new ApiClientService(internalApiClientFactory.create(null), internalApiClientFactory),
+                internalApiMetrics);
+        transactionService = new TransactionServiceImpl(transactionAPI, logger,
+                new InternalApiResilience(circuitBreakerRegistry, bulkheadRegistry, timeLimiterRegistry, requestExecutor));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        RequestContextHolder.resetRequestAttributes();
+        httpClient.close();
+        requestExecutor.shutdownNow();
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("Slow transactions API opens the circuit breaker and later calls fail fast")
+    void testSlowTransactionsApiOpensCircuitBreaker() {
+        responseDelayMillis = SLOW_CALL_THRESHOLD.toMillis() * 2;
+
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isPresent());
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isPresent());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerState());
+
+        final long start = System.nanoTime();
+        final ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                () -> transactionService.getTransaction(TRANSACTION_ID));
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertInstanceOf(CallNotPermittedException.class, exception.getCause());
+        assertTrue(elapsedMillis < responseDelayMillis);
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("Server errors from the transactions API open the circuit breaker")
+    void testFailingTransactionsApiOpensCircuitBreaker() {
+        responseStatus = 500;
+
+        assertThrows(ExternalServiceException.class, () -> transactionService.getTransaction(TRANSACTION_ID));
+        assertThrows(ExternalServiceException.class, () -> transactionService.getTransaction(TRANSACTION_ID));
+        final ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                () -> transactionService.getTransaction(TRANSACTION_ID));
+
+        assertInstanceOf(CallNotPermittedException.class, exception.getCause());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("Missing transactions do not count as failures")
+    void testNotFoundDoesNotOpenCircuitBreaker() {
+        responseStatus = 404;
+
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isEmpty());
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isEmpty());
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isEmpty());
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerState());
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("Calls that take longer than the timeout fail and count as failures")
+    void testSlowTransactionsApiTimesOut() {
+        responseDelayMillis = TIMEOUT.toMillis() * 2;
+
+        final long start = System.nanoTime();
+        final ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                () -> transactionService.getTransaction(TRANSACTION_ID));
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertTrue(elapsedMillis < responseDelayMillis);
+        assertEquals(1, circuitBreakerRegistry.circuitBreaker(Constants.TRANSACTIONS_API).getMetrics()
+                .getNumberOfFailedCalls());
+    }
+
+    @Test
+    @DisplayName("Calls over the concurrency limit fail fast while the transactions API is busy")
+    void testBulkheadRejectsConcurrentCall() throws InterruptedException {
+        responseDelayMillis = 1000;
+
+        final CompletableFuture<Void> inFlight = CompletableFuture
+                .runAsync(() -> transactionService.getTransaction(TRANSACTION_ID));
+        assertTrue(requestReceived.await(5, TimeUnit.SECONDS));
+
+        final ExternalServiceException exception = assertThrows(ExternalServiceException.class,
+                () -> transactionService.getTransaction(TRANSACTION_ID));
+
+        assertInstanceOf(BulkheadFullException.class, exception.getCause());
+        inFlight.join();
+        assertEquals(1, requestCount.get());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerState());
+    }
+
+    @Test
+    @DisplayName("Calls made for a request send its request id to the transactions API")
+    void testRequestIdIsSent() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(Constants.ERIC_REQUEST_ID_KEY, "request-id");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isPresent());
+
+        assertEquals("request-id", requestId);
+    }
+
+    @Test
+    @DisplayName("Calls made outside a request send no request id")
+    void testNoRequestIdOutsideRequest() {
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isPresent());
+
+        assertNull(requestId);
+    }
+
+    @Test
+    @DisplayName("Calls with and without a request id reuse one pooled connection")
+    void testConnectionIsReused() {
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isPresent());
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(Constants.ERIC_REQUEST_ID_KEY, "request-id");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertTrue(transactionService.getTransaction(TRANSACTION_ID).isPresent());
+
+        assertEquals(2, requestCount.get());
+        assertEquals(0, connectionManager.getTotalStats().getLeased());
+        assertEquals(1, connectionManager.getTotalStats().getAvailable());
+    }
+
+    private CircuitBreaker.State circuitBreakerState() {
+        return circuitBreakerRegistry.circuitBreaker(Constants.TRANSACTIONS_API).getState();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
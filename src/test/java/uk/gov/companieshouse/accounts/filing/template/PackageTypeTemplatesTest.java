@@ -0,0 +1,86 @@
+package uk.gov.companieshouse.accounts.filing.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import uk.gov.companieshouse.api.model.felixvalidator.PackageTypeApi;
+import uk.gov.companieshouse.api.model.payment.Cost;
+
+class PackageTypeTemplatesTest {
+
+    PackageTypeTemplates packageTypeTemplates;
+
+    @BeforeEach
+    void setUp() {
+        packageTypeTemplates = new PackageTypeTemplates("15", "33", "s3://", "bucket");
+    }
+
+    @ParameterizedTest
+    @EnumSource(PackageTypeApi.class)
+    @DisplayName("Every package type has a template")
+    void testTemplateForEveryPackageType(PackageTypeApi packageType) {
+        var template = packageTypeTemplates.get(packageType);
+        assertNotNull(template);
+        assertEquals(packageType.toString(), template.packageTypeName());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PackageTypeApi.class, names = { "CIC", "OVERSEAS" }, mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("Package types without a fee have no cost")
+    void testNoCostWithoutFee(PackageTypeApi packageType) {
+        assertNull(packageTypeTemplates.get(packageType).cost());
+        assertNull(packageTypeTemplates.get(packageType).filingDescription());
+    }
+
+    @Test
+    @DisplayName("Configuration tag only changes when the configuration does")
+    void testConfigurationTag() {
+        assertEquals(packageTypeTemplates.configurationTag(),
+                new PackageTypeTemplates("15", "33", "s3://", "bucket").configurationTag());
+        assertNotEquals(packageTypeTemplates.configurationTag(),
+                new PackageTypeTemplates("16", "33", "s3://", "bucket").configurationTag());
+        assertNotEquals(packageTypeTemplates.configurationTag(),
+                new PackageTypeTemplates("15", "34", "s3://", "bucket").configurationTag());
+        assertNotEquals(packageTypeTemplates.configurationTag(),
+                new PackageTypeTemplates("15", "33", "s3://", "other-bucket").configurationTag());
+    }
+
+    @Test
+    @DisplayName("CIC and overseas costs use their configured fees")
+    void testCostFees() {
+        assertEquals("15", packageTypeTemplates.get(PackageTypeApi.CIC).cost().getFee());
+        assertEquals("33", packageTypeTemplates.get(PackageTypeApi.OVERSEAS).cost().getFee());
+        assertEquals("Package accounts with package type overseas",
+                packageTypeTemplates.get(PackageTypeApi.OVERSEAS).filingDescription());
+    }
+
+    @Test
+    @DisplayName("Each cost is a new object sharing unmodifiable defaults")
+    void testNewCost() {
+        var costTemplate = packageTypeTemplates.get(PackageTypeApi.OVERSEAS).cost();
+        Cost first = costTemplate.newCost("First Company");
+        Cost second = costTemplate.newCost("Second Company");
+
+        assertNotSame(first, second);
+        assertEquals("Payment for " + PackageTypeApi.OVERSEAS + " Package Accounts for Second Company",
+                second.getDescription());
+        assertEquals(PackageTypeTemplates.OVERSEAS_PRODUCT_TYPE, second.getProductType());
+        assertThrows(UnsupportedOperationException.class, () -> first.getAvailablePaymentMethods().add("paypal"));
+    }
+
+    @Test
+    @DisplayName("File links are built from the scheme and bucket")
+    void testFileLink() {
+        assertEquals("s3://bucket/fileId", packageTypeTemplates.fileLink("fileId"));
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.companieshouse.accounts.filing.utils.validation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FormatValidatorTest {
+
+    @Test
+    @DisplayName("Lower case UUIDs are file ids")
+    void testLowerCaseUuid() {
+        assertTrue(FormatValidator.isLowerCaseUuid("9df3ddab-c199-467e-80d6-40405b1c824a"));
+        assertFalse(FormatValidator.isLowerCaseUuid("9DF3DDAB-C199-467E-80D6-40405B1C824A"));
+        assertFalse(FormatValidator.isLowerCaseUuid(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "000000-123456-000000", "999999-999999-999999", "1-1-1-1-1-1-1-1-1-1-",
+            "0000001234567-000000", "12345678901234567890", "--------------------" })
+    @DisplayName("Accepts transaction ids of 20 digits and dashes")
+    void testValidTransactionId(String value) {
+        assertTrue(FormatValidator.isTransactionId(value));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = { "000000-123456-00000", "000000-123456-0000000", "000000_123456_000000",
+            "00000a-123456-000000" })
+    @DisplayName("Rejects values that are not transaction ids")
+    void testInvalidTransactionId(String value) {
+        assertFalse(FormatValidator.isTransactionId(value));
+    }
+
+    @Test
+    @DisplayName("Dashed transaction ids are in 000000-000000-000000 form")
+    void testDashedTransactionId() {
+        assertTrue(FormatValidator.isDashedTransactionId("000000-123456-000000"));
+        assertFalse(FormatValidator.isDashedTransactionId("1-1-1-1-1-1-1-1-1-1-"));
+        assertFalse(FormatValidator.isDashedTransactionId("0000001234567-000000"));
+        assertFalse(FormatValidator.isDashedTransactionId("12345678901234567890"));
+        assertFalse(FormatValidator.isDashedTransactionId("00000a-123456-000000"));
+        assertFalse(FormatValidator.isDashedTransactionId(null));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = { "65F1C0FFEE0000000000BEEF", "65f1c0ffee0000000000bee", "65f1c0ffee0000000000beeg" })
+    @DisplayName("Rejects values that are not object ids")
+    void testInvalidObjectId(String value) {
+        assertFalse(FormatValidator.isObjectId(value));
+    }
+
+    @Test
+    @DisplayName("Accepts object ids")
+    void testValidObjectId() {
+        assertTrue(FormatValidator.isObjectId("65f1c0ffee0000000000beef"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "00006400", "NI123456", "SC123456", "OE000001" })
+    @DisplayName("Accepts company numbers")
+    void testValidCompanyNumber(String value) {
+        assertTrue(FormatValidator.isCompanyNumber(value));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = { "12345", "ni123456", "NI-12345", "NI1234567", "        " })
+    @DisplayName("Rejects values that are not company numbers")
+    void testInvalidCompanyNumber(String value) {
+        assertFalse(FormatValidator.isCompanyNumber(value));
+    }
+}